@@ -3,6 +3,7 @@ plugins {
     jacoco
     id("org.springframework.boot") version "3.4.5"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "id.ac.ui.cs.advprog"
@@ -39,10 +40,13 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     testImplementation("org.springframework.security:spring-security-test:6.0.2")
     implementation("io.jsonwebtoken:jjwt-api:0.11.5")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
 
-    runtimeOnly("org.postgresql:postgresql:42.6.0")
+    implementation("org.flywaydb:flyway-core")
+    runtimeOnly("org.flywaydb:flyway-database-postgresql")
+    runtimeOnly("org.postgresql:postgresql:42.7.5")
     testImplementation("com.h2database:h2:2.2.220")
 
     compileOnly("org.projectlombok:lombok")
@@ -63,6 +67,7 @@ dependencies {
     // Monitoring and Metrics
     implementation("io.micrometer:micrometer-registry-prometheus")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
     
 }
 
@@ -0,0 +1,50 @@
+// 5k concurrent slow clients against the DB-backed read paths.
+// Run once with VIRTUAL_THREADS_ENABLED=false and once with true, then compare
+// http_reqs/s, p95 latency and the error rate (503s mean BoundedDataSource timed out).
+//
+//   docker compose --profile loadtest run --rm -e BASE_URL=http://host.docker.internal:8080 k6
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN || '';
+
+export const options = {
+    scenarios: {
+        slow_clients: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: Number(__ENV.VUS || 5000) },
+                { duration: __ENV.HOLD || '3m', target: Number(__ENV.VUS || 5000) },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '30s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<2000'],
+    },
+};
+
+const params = {
+    headers: TOKEN ? { Authorization: `Bearer ${TOKEN}` } : {},
+    timeout: '30s',
+};
+
+function randomDay() {
+    const day = new Date(Date.UTC(2030, 0, 1) + Math.floor(Math.random() * 365) * 86400000);
+    return day.toISOString().substring(0, 10);
+}
+
+export default function () {
+    const day = randomDay();
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/events/week/${day}?limit=20`, null, params],
+        ['GET', `${BASE_URL}/api/events/calendar?from=${day}&to=${day.substring(0, 8)}28`, null, params],
+    ]);
+    responses.forEach((res) => check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 }));
+    // Think time keeps each client mostly idle on an open connection, which is what we want to measure.
+    sleep(1 + Math.random() * 4);
+}
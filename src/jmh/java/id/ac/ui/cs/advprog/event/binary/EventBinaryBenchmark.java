@@ -0,0 +1,125 @@
+package id.ac.ui.cs.advprog.event.binary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.json.EventJsonWriter;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+// ./gradlew jmh -- each *Json benchmark against its *Binary counterpart. JSON is encoded through
+// EventJsonWriter, i.e. what the endpoints actually serve. Wire sizes are printed once per fork.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBinaryBenchmark {
+
+    @Param({"1", "50"})
+    private int pageSize;
+
+    private EventJsonWriter eventJsonWriter;
+    private ObjectReader eventReader;
+    private ObjectReader summaryListReader;
+    private Event event;
+    private List<EventSummary> page;
+    private byte[] eventJson;
+    private byte[] eventBinary;
+    private byte[] pageJson;
+    private byte[] pageBinary;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        eventJsonWriter = new EventJsonWriter(objectMapper);
+        eventReader = objectMapper.readerFor(Event.class);
+        summaryListReader = objectMapper.readerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, EventSummary.class));
+
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 19, 0);
+        page = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            Event row = new Event();
+            row.setId(UUID.randomUUID());
+            row.setTitle("Event " + i + " at the Grand Hall");
+            row.setDescription("Doors open an hour before the show.");
+            row.setEventDate(start.plusHours(7L * i));
+            row.setLocation("Hall " + (i % 40));
+            row.setBasePrice(25000.0 * (i % 9));
+            row.setStatus(EventStatus.PUBLISHED);
+            row.setUserId(UUID.randomUUID());
+            row.setUpdatedAt(start.minusDays(i));
+            page.add(EventSummary.of(row));
+            event = row;
+        }
+
+        eventJson = eventJsonWriter.toBytes(event);
+        eventBinary = EventBinaryCodec.encode(event);
+        pageJson = eventJsonWriter.toBytes(page);
+        pageBinary = EventBinaryCodec.encode(page);
+        System.out.printf("wire bytes: event json=%d binary=%d, %d summaries json=%d binary=%d%n",
+                eventJson.length, eventBinary.length, pageSize, pageJson.length, pageBinary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeEventJson() {
+        return eventJsonWriter.toBytes(event);
+    }
+
+    @Benchmark
+    public byte[] encodeEventBinary() {
+        return EventBinaryCodec.encode(event);
+    }
+
+    @Benchmark
+    public Event decodeEventJson() throws Exception {
+        return eventReader.readValue(eventJson);
+    }
+
+    @Benchmark
+    public Event decodeEventBinary() {
+        return EventBinaryCodec.decodeEvent(eventBinary);
+    }
+
+    @Benchmark
+    public byte[] encodePageJson() {
+        return eventJsonWriter.toBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodePageBinary() {
+        return EventBinaryCodec.encode(page);
+    }
+
+    @Benchmark
+    public List<EventSummary> decodePageJson() throws Exception {
+        return summaryListReader.readValue(pageJson);
+    }
+
+    @Benchmark
+    public List<EventSummary> decodePageBinary() {
+        return EventBinaryCodec.decodeSummaries(pageBinary);
+    }
+}
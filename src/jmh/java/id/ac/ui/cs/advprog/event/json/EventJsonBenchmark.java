@@ -0,0 +1,91 @@
+package id.ac.ui.cs.advprog.event.json;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+// ./gradlew jmh -- compare each *Reflective benchmark with its *Fast counterpart.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventJsonBenchmark {
+
+    @Param({"50", "200"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter summaryListWriter;
+    private EventJsonWriter eventJsonWriter;
+    private List<EventSummary> page;
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        summaryListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, EventSummary.class));
+        eventJsonWriter = new EventJsonWriter(objectMapper);
+
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 19, 0);
+        page = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            Event row = new Event();
+            row.setId(UUID.randomUUID());
+            row.setTitle("Event " + i + " at the Grand Hall");
+            row.setDescription("A fairly long description that list views never show. ".repeat(20));
+            row.setEventDate(start.plusHours(7L * i));
+            row.setLocation("Hall " + (i % 40));
+            row.setBasePrice(25000.0 * (i % 9));
+            row.setStatus(EventStatus.PUBLISHED);
+            row.setUserId(UUID.randomUUID());
+            row.setUpdatedAt(start.minusDays(i));
+            page.add(EventSummary.of(row));
+            event = row;
+        }
+    }
+
+    @Benchmark
+    public byte[] summaryPageReflective() throws Exception {
+        return summaryListWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] summaryPageFast() {
+        return eventJsonWriter.toBytes(page);
+    }
+
+    @Benchmark
+    public byte[] eventReflective() throws Exception {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] eventFast() {
+        return eventJsonWriter.toBytes(event);
+    }
+}
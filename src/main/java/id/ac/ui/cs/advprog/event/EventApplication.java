@@ -3,12 +3,14 @@ package id.ac.ui.cs.advprog.event;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.github.cdimascio.dotenv.Dotenv;
 
 
 @SpringBootApplication
 @EnableAsync
+@EnableScheduling
 public class EventApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,233 @@
+package id.ac.ui.cs.advprog.event.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+// Fixed-layout encoding for service-to-service reads, shared by the server converter and EventBinaryClient.
+//
+//   message  := version:u8 kind:u8 (event | count:varint summary*)
+//   event    := present:u8 id? title? description? event_date? location? base_price:f64 status? user_id?
+//               version:i64 updated_at?
+//   summary  := present:u8 id? title? event_date? location? base_price:f64 status?
+//
+// Big-endian. UUIDs are 16 raw bytes, date-times epoch millis read as UTC (the JSON form carries no zone
+// either), strings a varint length plus UTF-8, statuses their ordinal. Bit i of `present` marks the i-th
+// nullable field as written. Anything that changes this layout, including reordering EventStatus,
+// needs a new FORMAT_VERSION and media type.
+public final class EventBinaryCodec {
+
+    public static final String MEDIA_TYPE = "application/vnd.advprog.event.v1";
+
+    static final int FORMAT_VERSION = 1;
+    static final int KIND_EVENT = 1;
+    static final int KIND_SUMMARIES = 2;
+
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    private EventBinaryCodec() {
+    }
+
+    public static byte[] encode(Event event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(KIND_EVENT);
+            out.writeByte(bit(0, event.getId()) | bit(1, event.getTitle()) | bit(2, event.getDescription())
+                    | bit(3, event.getEventDate()) | bit(4, event.getLocation()) | bit(5, event.getStatus())
+                    | bit(6, event.getUserId()) | bit(7, event.getUpdatedAt()));
+            writeUuid(out, event.getId());
+            writeString(out, event.getTitle());
+            writeString(out, event.getDescription());
+            writeDateTime(out, event.getEventDate());
+            writeString(out, event.getLocation());
+            out.writeDouble(event.getBasePrice());
+            writeStatus(out, event.getStatus());
+            writeUuid(out, event.getUserId());
+            out.writeLong(event.getVersion());
+            writeDateTime(out, event.getUpdatedAt());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static byte[] encode(List<EventSummary> summaries) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + summaries.size() * 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(KIND_SUMMARIES);
+            writeVarint(out, summaries.size());
+            for (EventSummary summary : summaries) {
+                out.writeByte(bit(0, summary.getId()) | bit(1, summary.getTitle()) | bit(2, summary.getEventDate())
+                        | bit(3, summary.getLocation()) | bit(4, summary.getStatus()));
+                writeUuid(out, summary.getId());
+                writeString(out, summary.getTitle());
+                writeDateTime(out, summary.getEventDate());
+                writeString(out, summary.getLocation());
+                out.writeDouble(summary.getBasePrice());
+                writeStatus(out, summary.getStatus());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Event decodeEvent(byte[] payload) {
+        try {
+            DataInputStream in = open(payload, KIND_EVENT);
+            int present = in.readUnsignedByte();
+            Event event = new Event();
+            event.setId(has(present, 0) ? readUuid(in) : null);
+            event.setTitle(has(present, 1) ? readString(in) : null);
+            event.setDescription(has(present, 2) ? readString(in) : null);
+            event.setEventDate(has(present, 3) ? readDateTime(in) : null);
+            event.setLocation(has(present, 4) ? readString(in) : null);
+            event.setBasePrice(in.readDouble());
+            event.setStatus(has(present, 5) ? readStatus(in) : null);
+            event.setUserId(has(present, 6) ? readUuid(in) : null);
+            event.setVersion(in.readLong());
+            event.setUpdatedAt(has(present, 7) ? readDateTime(in) : null);
+            return event;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed event payload", e);
+        }
+    }
+
+    public static List<EventSummary> decodeSummaries(byte[] payload) {
+        try {
+            DataInputStream in = open(payload, KIND_SUMMARIES);
+            int count = readVarint(in);
+            // Every summary takes at least its mask and price, so a count beyond that is corrupt, not a big page.
+            if (count > payload.length / 9) {
+                throw new IOException("Summary count " + count + " exceeds payload");
+            }
+            List<EventSummary> summaries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int present = in.readUnsignedByte();
+                UUID id = has(present, 0) ? readUuid(in) : null;
+                String title = has(present, 1) ? readString(in) : null;
+                LocalDateTime eventDate = has(present, 2) ? readDateTime(in) : null;
+                String location = has(present, 3) ? readString(in) : null;
+                double basePrice = in.readDouble();
+                EventStatus status = has(present, 4) ? readStatus(in) : null;
+                summaries.add(new EventSummary(id, title, eventDate, location, basePrice, status));
+            }
+            return summaries;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed event payload", e);
+        }
+    }
+
+    private static DataInputStream open(byte[] payload, int expectedKind) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+        int kind = in.readUnsignedByte();
+        if (kind != expectedKind) {
+            throw new IOException("Expected payload kind " + expectedKind + " but got " + kind);
+        }
+        return in;
+    }
+
+    private static int bit(int index, Object value) {
+        return value == null ? 0 : 1 << index;
+    }
+
+    private static boolean has(int present, int index) {
+        return (present & (1 << index)) != 0;
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+        if (value != null) {
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value != null) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarint(in);
+        if (length > in.available()) {
+            throw new IOException("String length " + length + " exceeds payload");
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value != null) {
+            out.writeLong(value.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZoneOffset.UTC);
+    }
+
+    private static void writeStatus(DataOutputStream out, EventStatus value) throws IOException {
+        if (value != null) {
+            out.writeByte(value.ordinal());
+        }
+    }
+
+    private static EventStatus readStatus(DataInputStream in) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= STATUSES.length) {
+            throw new IOException("Unknown status " + ordinal);
+        }
+        return STATUSES[ordinal];
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Negative length");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Varint too long");
+    }
+}
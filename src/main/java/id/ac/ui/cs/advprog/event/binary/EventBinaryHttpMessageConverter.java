@@ -0,0 +1,86 @@
+package id.ac.ui.cs.advprog.event.binary;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+// Write-only: serves Event and List<EventSummary> bodies to clients that ask for EventBinaryCodec.MEDIA_TYPE.
+// Everything else, including error bodies, is left to the JSON converter.
+public class EventBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public EventBinaryHttpMessageConverter() {
+        super(MediaType.parseMediaType(EventBinaryCodec.MEDIA_TYPE));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Event.class.isAssignableFrom(clazz) || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    // A list declared with another element type is refused up front; ResponseEntity<?> handlers only
+    // reveal their element type at write time, where anything but summaries is an error.
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (clazz == null || !supports(clazz) || !canWrite(mediaType)) {
+            return false;
+        }
+        if (type instanceof ParameterizedType parameterized && List.class.isAssignableFrom(clazz)) {
+            return parameterized.getActualTypeArguments()[0] == EventSummary.class;
+        }
+        return true;
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        byte[] payload;
+        if (body instanceof Event event) {
+            payload = EventBinaryCodec.encode(event);
+        } else {
+            payload = EventBinaryCodec.encode(summaries((List<?>) body));
+        }
+        outputMessage.getHeaders().setContentLength(payload.length);
+        outputMessage.getBody().write(payload);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<EventSummary> summaries(List<?> list) {
+        for (Object item : list) {
+            if (!(item instanceof EventSummary)) {
+                String kind = item == null ? "null" : item.getClass().getSimpleName();
+                throw new HttpMessageNotWritableException("No binary encoding for " + kind);
+            }
+        }
+        return (List<EventSummary>) list;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Binary event encoding is response-only", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Binary event encoding is response-only", inputMessage);
+    }
+}
@@ -0,0 +1,75 @@
+package id.ac.ui.cs.advprog.event.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class EventCache {
+    public static final String CACHE_NAME = "events";
+
+    private final Cache<UUID, Event> cache;
+
+    public EventCache(@Value("${events.cache.max-size:10000}") long maxSize,
+                      @Value("${events.cache.ttl-seconds:300}") long ttlSeconds,
+                      MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Fraction of lookups served without loading")
+                .register(meterRegistry);
+    }
+
+    // Concurrent misses for the same id share a single load; a loader exception is
+    // propagated unchanged and nothing is cached.
+    public Event get(UUID id, Function<UUID, Event> loader) {
+        return cache.get(id, loader);
+    }
+
+    // Misses are resolved by a single loader call. Ids the loader leaves out are absent from the
+    // result and are not cached.
+    public Map<UUID, Event> getAll(Collection<UUID> ids, Function<Set<? extends UUID>, Map<UUID, Event>> loader) {
+        return cache.getAll(ids, loader);
+    }
+
+    public Event getIfPresent(UUID id) {
+        return cache.getIfPresent(id);
+    }
+
+    public void evict(UUID id) {
+        cache.invalidate(id);
+    }
+
+    // Writers publish the change instead of evicting, so the entry goes only once the write has
+    // committed; evicting earlier lets a concurrent read reload the old row and cache it for the TTL.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        evict(change.id());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
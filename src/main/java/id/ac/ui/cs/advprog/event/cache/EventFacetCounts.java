@@ -0,0 +1,174 @@
+package id.ac.ui.cs.advprog.event.cache;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import id.ac.ui.cs.advprog.event.dto.EventFacets;
+import id.ac.ui.cs.advprog.event.dto.FacetCell;
+import id.ac.ui.cs.advprog.event.dto.FacetValue;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.enums.PriceBand;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.model.EventState;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+
+// Facet counts (location, month, price band, status) for the public catalog. They are loaded with one
+// GROUP BY and then adjusted by +1/-1 as EventChangedEvents arrive, so serving them never queries the
+// database. A periodic reload corrects any drift, e.g. from rows changed outside the application.
+@Component
+public class EventFacetCounts {
+
+    private static final List<EventStatus> PUBLIC_STATUSES = List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED);
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final EventRepository eventRepository;
+    private final int maxLocations;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, Long> locations = new HashMap<>();
+    private final Map<YearMonth, Long> months = new HashMap<>();
+    private final Map<PriceBand, Long> priceBands = new HashMap<>();
+    private final Map<EventStatus, Long> statuses = new HashMap<>();
+    private boolean loaded;
+    private long loadedThrough;
+    private volatile EventFacets snapshot;
+
+    public EventFacetCounts(EventRepository eventRepository,
+                            @Value("${events.facets.max-locations:50}") int maxLocations) {
+        this.eventRepository = eventRepository;
+        this.maxLocations = maxLocations;
+    }
+
+    public EventFacets current() {
+        EventFacets current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (!loaded) {
+                loadLocked();
+            }
+            if (snapshot == null) {
+                snapshot = render();
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.facets.reload-interval-ms:600000}",
+            initialDelayString = "${events.facets.reload-interval-ms:600000}")
+    public void reload() {
+        lock.lock();
+        try {
+            loadLocked();
+            snapshot = render();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (!change.touchesPublic()) {
+            return;
+        }
+        long sequence = generation.incrementAndGet();
+        lock.lock();
+        try {
+            // A change numbered at or below loadedThrough was counted before the last load started, so
+            // a listener that waited on the lock during that load must not apply it a second time.
+            if (!loaded || sequence <= loadedThrough) {
+                return;
+            }
+            if (change.previous() != null && change.previous().isPublic()) {
+                apply(change.previous(), -1);
+            }
+            if (change.current() != null && change.current().isPublic()) {
+                apply(change.current(), 1);
+            }
+            snapshot = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Each listener call takes the next generation after its change committed. A change committed while
+    // the aggregate ran may or may not be in its result, so the load is retried until no change
+    // interleaved; everything up to loadedThrough then counts as loaded. After a few attempts the
+    // interleaved changes are treated as loaded too and the scheduled reload is left to settle them.
+    private void loadLocked() {
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long observed = generation.get();
+            List<FacetCell> cells = eventRepository.countFacetCells(PUBLIC_STATUSES);
+            locations.clear();
+            months.clear();
+            priceBands.clear();
+            statuses.clear();
+            for (FacetCell cell : cells) {
+                long count = cell.getCount();
+                locations.merge(cell.getLocation(), count, Long::sum);
+                months.merge(YearMonth.of(cell.getYear(), cell.getMonth()), count, Long::sum);
+                priceBands.merge(PriceBand.of(cell.getBasePrice()), count, Long::sum);
+                statuses.merge(cell.getStatus(), count, Long::sum);
+            }
+            loaded = true;
+            loadedThrough = generation.get();
+            if (loadedThrough == observed) {
+                return;
+            }
+        }
+    }
+
+    private void apply(EventState event, long delta) {
+        adjust(locations, event.location(), delta);
+        if (event.eventDate() != null) {
+            adjust(months, YearMonth.from(event.eventDate()), delta);
+        }
+        adjust(priceBands, PriceBand.of(event.basePrice()), delta);
+        adjust(statuses, event.status(), delta);
+    }
+
+    private static <K> void adjust(Map<K, Long> counts, K key, long delta) {
+        if (key == null) {
+            return;
+        }
+        Long updated = counts.merge(key, delta, Long::sum);
+        if (updated != null && updated <= 0) {
+            counts.remove(key);
+        }
+    }
+
+    private EventFacets render() {
+        return EventFacets.builder()
+                .location(values(locations, Comparator.<Map.Entry<String, Long>>comparingLong(Map.Entry::getValue)
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey), maxLocations))
+                .month(values(months, Map.Entry.comparingByKey(), Integer.MAX_VALUE))
+                .priceBand(values(priceBands, Map.Entry.comparingByKey(), Integer.MAX_VALUE))
+                .status(values(statuses, Map.Entry.comparingByKey(), Integer.MAX_VALUE))
+                .build();
+    }
+
+    private static <K> List<FacetValue> values(Map<K, Long> counts, Comparator<Map.Entry<K, Long>> order, int limit) {
+        List<FacetValue> result = new ArrayList<>();
+        counts.entrySet().stream()
+                .sorted(order)
+                .limit(limit)
+                .forEach(entry -> result.add(new FacetValue(String.valueOf(entry.getKey()), entry.getValue())));
+        return List.copyOf(result);
+    }
+}
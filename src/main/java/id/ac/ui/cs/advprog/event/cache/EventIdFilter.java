@@ -0,0 +1,169 @@
+package id.ac.ui.cs.advprog.event.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+
+// Bloom filter over the event ids this instance has seen: everything stored at the last rebuild plus
+// creations committed here since. Until the first build every id "might exist", ids created while a
+// rebuild reads the table are replayed into the new filter before it is published, and a failed rebuild
+// keeps the previous filter. Events created on other instances only arrive with the next rebuild, which
+// runs every few minutes so such an id is reported missing for at most one interval. Deleted ids cannot be
+// removed from a Bloom filter; they disappear at the same rebuild, which also resizes the filter.
+@Component
+public class EventIdFilter {
+    private static final Logger logger = LoggerFactory.getLogger(EventIdFilter.class);
+
+    private final EventRepository eventRepository;
+    private final long minCapacity;
+    private final double falsePositiveRate;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<UUID> addedDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile Bits bits;
+
+    public EventIdFilter(EventRepository eventRepository,
+                         @Value("${events.id-filter.min-capacity:1000000}") long minCapacity,
+                         @Value("${events.id-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.eventRepository = eventRepository;
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${events.id-filter.rebuild-interval-ms:300000}",
+            initialDelayString = "${events.id-filter.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            rebuilding = true;
+            addedDuringRebuild.clear();
+        } finally {
+            writeLock.unlock();
+        }
+        Bits next;
+        try {
+            // Twice the current size leaves room for growth until the next rebuild.
+            next = new Bits(Math.max(minCapacity, eventRepository.count() * 2), falsePositiveRate);
+            eventRepository.forEachId(next::add);
+        } catch (RuntimeException e) {
+            // A partly read filter would rule out stored ids, so the previous one stays in place.
+            finishRebuild(null);
+            logger.warn("Event id filter rebuild failed, keeping the previous filter", e);
+            return;
+        }
+        finishRebuild(next);
+        logger.info("Event id filter rebuilt with {} ids, capacity {}", next.size(), next.capacity);
+    }
+
+    private void finishRebuild(Bits next) {
+        writeLock.lock();
+        try {
+            if (next != null) {
+                addedDuringRebuild.forEach(next::add);
+                bits = next;
+            }
+            addedDuringRebuild.clear();
+            rebuilding = false;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.previous() == null && change.current() != null) {
+            add(change.current().id());
+        }
+    }
+
+    public void add(UUID id) {
+        writeLock.lock();
+        try {
+            Bits current = bits;
+            if (current != null) {
+                current.add(id);
+            }
+            if (rebuilding) {
+                addedDuringRebuild.add(id);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // False means the id was not stored at the last rebuild nor created here since; true means it may be stored.
+    public boolean mightContain(UUID id) {
+        Bits current = bits;
+        return current == null || current.mightContain(id);
+    }
+
+    static final class Bits {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashes;
+        private final long capacity;
+        private final AtomicLong size = new AtomicLong();
+
+        Bits(long capacity, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+            this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE, (optimalBits + 63) / 64));
+            this.bitCount = words.length() * 64L;
+            this.hashes = Math.max(1, (int) Math.round((double) bitCount / capacity * ln2));
+            this.capacity = capacity;
+        }
+
+        void add(UUID id) {
+            long h1 = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+            long h2 = mix(h1) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                long mask = 1L << bit;
+                words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+            }
+            size.incrementAndGet();
+        }
+
+        boolean mightContain(UUID id) {
+            long h1 = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+            long h2 = mix(h1) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long size() {
+            return size.get();
+        }
+
+        // MurmurHash3 finalizer; ids are not guaranteed to be random v4 UUIDs.
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
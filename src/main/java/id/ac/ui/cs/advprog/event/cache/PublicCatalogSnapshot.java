@@ -0,0 +1,101 @@
+package id.ac.ui.cs.advprog.event.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.json.EventJsonWriter;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.service.EventService;
+
+@Component
+public class PublicCatalogSnapshot {
+
+    // The gzip body has different bytes, so it gets its own strong validator.
+    public record Snapshot(byte[] json, byte[] gzip, String etag, String gzipEtag, String nextCursor) {
+    }
+
+    private final EventService eventService;
+    private final EventJsonWriter eventJsonWriter;
+    private final AtomicLong generation = new AtomicLong();
+    // Not synchronized: build() runs a query, and a monitor held across JDBC I/O pins virtual threads.
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public PublicCatalogSnapshot(EventService eventService, EventJsonWriter eventJsonWriter) {
+        this.eventService = eventService;
+        this.eventJsonWriter = eventJsonWriter;
+    }
+
+    // The first anonymous page, encoded once and shared until a public event changes.
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        buildLock.lock();
+        try {
+            if (snapshot != null) {
+                return snapshot;
+            }
+            long observed = generation.get();
+            Snapshot built = build();
+            // A change that committed while we were querying must not be masked by this stale build.
+            if (generation.get() == observed) {
+                snapshot = built;
+            }
+            return built;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.touchesPublic()) {
+            invalidate();
+        }
+    }
+
+    private Snapshot build() {
+        CursorPage<EventSummary> page = eventService.listEvents(null, null, null);
+        byte[] json = eventJsonWriter.toBytes(page.getItems());
+        String hash = hash(json);
+        return new Snapshot(json, gzip(json), "\"" + hash + "\"", "\"" + hash + "-gz\"", page.getNextCursor());
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package id.ac.ui.cs.advprog.event.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import id.ac.ui.cs.advprog.event.binary.EventBinaryCodec;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+// Client for the ticketing and payment services: reads events in the binary encoding instead of JSON.
+// JSON is still accepted at lower priority so error bodies can be negotiated; a 200 in anything but
+// the binary type means the server is too old and is reported as such.
+public class EventBinaryClient {
+
+    private static final String ACCEPT = EventBinaryCodec.MEDIA_TYPE + ", application/json;q=0.5";
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final Duration timeout;
+
+    public EventBinaryClient(HttpClient httpClient, URI baseUri, Duration timeout) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+    }
+
+    public Optional<Event> getEvent(UUID id) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = send("/api/events/" + id);
+        if (response.statusCode() == 404) {
+            return Optional.empty();
+        }
+        return Optional.of(EventBinaryCodec.decodeEvent(body(response)));
+    }
+
+    public List<EventSummary> getEventsByDate(LocalDate date) throws IOException, InterruptedException {
+        return EventBinaryCodec.decodeSummaries(body(send("/api/events/date/" + date)));
+    }
+
+    private HttpResponse<byte[]> send(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Accept", ACCEPT)
+                .timeout(timeout)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] body(HttpResponse<byte[]> response) throws IOException {
+        if (response.statusCode() != 200) {
+            throw new IOException("Event service returned " + response.statusCode() + " for " + response.uri());
+        }
+        String contentType = response.headers().firstValue("Content-Type").orElse("");
+        if (!contentType.startsWith(EventBinaryCodec.MEDIA_TYPE)) {
+            throw new IOException("Expected " + EventBinaryCodec.MEDIA_TYPE + " but got '" + contentType + "'");
+        }
+        return response.body();
+    }
+}
@@ -2,8 +2,10 @@ package id.ac.ui.cs.advprog.event.config;
 
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -15,15 +17,39 @@ public class AsyncConfig implements AsyncConfigurer {
     @Autowired
     private AsyncExceptionHandler asyncExceptionHandler;
 
+    // The same switch that moves Tomcat request handling onto virtual threads.
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${events.async.core-pool-size:7}")
+    private int corePoolSize = 7;
+
+    @Value("${events.async.max-pool-size:42}")
+    private int maxPoolSize = 42;
+
+    @Value("${events.async.queue-capacity:500}")
+    private int queueCapacity = 500;
+
+    @Value("${events.async.virtual-concurrency-limit:1000}")
+    private int virtualConcurrencyLimit = 1000;
+
     @Override
     @Bean(name = "asyncExecutor")
     public Executor getAsyncExecutor() {
+        if (virtualThreads) {
+            // One virtual thread per task; the limit only stops runaway fan-out; the database is
+            // protected separately by BoundedDataSource.
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("MyExecutor-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            return executor;
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(7);
-        executor.setMaxPoolSize(42);
-        executor.setQueueCapacity(500);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix("MyExecutor-");
-        executor.initialize();
+        // Left to afterPropertiesSet() so ExecutorMetricsConfig can attach its decorator first.
         return executor;
     }
 
@@ -31,4 +57,4 @@ public class AsyncConfig implements AsyncConfigurer {
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return asyncExceptionHandler;
     }
-}
\ No newline at end of file
+}
@@ -2,19 +2,36 @@ package id.ac.ui.cs.advprog.event.config;
 
 
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.lang.reflect.Method;
 import java.util.Arrays;
 
 @Component
 public class AsyncExceptionHandler implements AsyncUncaughtExceptionHandler {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncExceptionHandler.class);
+
+    private final MeterRegistry registry;
+
+    public AsyncExceptionHandler(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
     @Override
     public void handleUncaughtException(Throwable ex, Method method, Object... params) {
-        System.out.println("Method name: " + method.getName() +
-                " --- " + Arrays.toString(params) + " --- " +
-                "Error message: " + ex.getMessage()
-        );
+        Counter.builder("async.task.failures")
+                .description("Uncaught exceptions thrown by void @Async methods")
+                .tag("method", method.getDeclaringClass().getSimpleName() + "." + method.getName())
+                .tag("exception", ex.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+        logger.error("Method name: {} --- {} --- Error message: {}",
+                method.getName(), Arrays.toString(params), ex.getMessage(), ex);
     }
 }
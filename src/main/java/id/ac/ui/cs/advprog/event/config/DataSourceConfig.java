@@ -0,0 +1,29 @@
+package id.ac.ui.cs.advprog.event.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class DataSourceConfig {
+
+    // static so the post-processor is registered before the DataSource bean is created.
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BoundedDataSource) {
+                    return bean;
+                }
+                int maxConnections = environment.getProperty("events.datasource.max-concurrent-connections",
+                        Integer.class, environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                long acquireTimeout = environment.getProperty("events.datasource.acquire-timeout-ms", Long.class, 5000L);
+                return new BoundedDataSource(dataSource, maxConnections, acquireTimeout);
+            }
+        };
+    }
+}
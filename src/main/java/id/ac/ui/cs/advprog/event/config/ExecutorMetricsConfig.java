@@ -0,0 +1,63 @@
+package id.ac.ui.cs.advprog.event.config;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+// Instruments every executor bean, tagged by bean name: pool/queue gauges via ExecutorServiceMetrics,
+// a rejection counter, and wait/run timers per task type via TaskMetricsDecorator.
+@Configuration
+public class ExecutorMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor executorMetricsPostProcessor(ObjectProvider<MeterRegistry> registryProvider) {
+        return new BeanPostProcessor() {
+            // Runs before afterPropertiesSet(), which is where ThreadPoolTaskExecutor applies the decorator.
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof ThreadPoolTaskExecutor executor) {
+                    MeterRegistry registry = registryProvider.getObject();
+                    executor.setTaskDecorator(new TaskMetricsDecorator(registry, beanName));
+                    executor.setRejectedExecutionHandler(countingAbortPolicy(registry, beanName));
+                } else if (bean instanceof SimpleAsyncTaskExecutor executor) {
+                    executor.setTaskDecorator(new TaskMetricsDecorator(registryProvider.getObject(), beanName));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ThreadPoolTaskExecutor executor) {
+                    new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), beanName, List.<Tag>of())
+                            .bindTo(registryProvider.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static ThreadPoolExecutor.AbortPolicy countingAbortPolicy(MeterRegistry registry, String executorName) {
+        Counter rejected = Counter.builder("executor.tasks.rejected")
+                .description("Tasks rejected because the pool and its queue were full")
+                .tag("name", executorName)
+                .register(registry);
+        return new ThreadPoolExecutor.AbortPolicy() {
+            @Override
+            public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+                rejected.increment();
+                super.rejectedExecution(task, executor);
+            }
+        };
+    }
+}
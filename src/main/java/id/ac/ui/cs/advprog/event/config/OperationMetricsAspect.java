@@ -0,0 +1,82 @@
+package id.ac.ui.cs.advprog.event.config;
+
+import java.util.Collection;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Times every EventService and EventRepository call as event.service / event.repository, tagged by
+// operation and outcome, and records how many rows list-shaped results carried. Both publish
+// percentile histograms so latency quantiles can be aggregated across instances in Prometheus.
+@Aspect
+@Component
+public class OperationMetricsAspect {
+
+    private final MeterRegistry registry;
+
+    public OperationMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("this(id.ac.ui.cs.advprog.event.service.EventService) && execution(public * *(..))"
+            + " && !execution(* java.lang.Object.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("event.service", joinPoint);
+    }
+
+    @Around("this(id.ac.ui.cs.advprog.event.repository.EventRepository) && execution(public * *(..))"
+            + " && !execution(* java.lang.Object.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("event.repository", joinPoint);
+    }
+
+    private Object record(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        String exception = "none";
+        try {
+            Object result = joinPoint.proceed();
+            recordSize(name, operation, result);
+            return result;
+        } catch (Throwable e) {
+            outcome = "error";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    private void recordSize(String name, String operation, Object result) {
+        int size;
+        if (result instanceof Collection<?> collection) {
+            size = collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            size = slice.getNumberOfElements();
+        } else if (result instanceof CursorPage<?> page && page.getItems() != null) {
+            size = page.getItems().size();
+        } else {
+            return;
+        }
+        DistributionSummary.builder(name + ".results")
+                .description("Rows returned by list-shaped operations")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(size);
+    }
+}
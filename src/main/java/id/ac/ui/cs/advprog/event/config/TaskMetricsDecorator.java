@@ -0,0 +1,75 @@
+package id.ac.ui.cs.advprog.event.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.task.TaskDecorator;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Records, per executor and task type, how long a task waited between submission and start and how long
+// it ran. decorate() is called on the submitting thread, so the submission time is taken there.
+public class TaskMetricsDecorator implements TaskDecorator {
+
+    public static final String UNTYPED = "untyped";
+
+    // Submitters wrap work with typed(...) so the metrics can be split by what the task does.
+    public record TypedTask(String type, Runnable delegate) implements Runnable {
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+
+    public static Runnable typed(String type, Runnable task) {
+        return new TypedTask(type, task);
+    }
+
+    private final MeterRegistry registry;
+    private final String executorName;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public TaskMetricsDecorator(MeterRegistry registry, String executorName) {
+        this.registry = registry;
+        this.executorName = executorName;
+        // Pool gauges only exist for ThreadPoolTaskExecutor; this also covers the virtual-thread executor.
+        Gauge.builder("executor.tasks.running", active, AtomicInteger::get)
+                .description("Tasks currently running on the executor")
+                .tag("name", executorName)
+                .register(registry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        String type = runnable instanceof TypedTask typedTask ? typedTask.type() : UNTYPED;
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            timer("executor.task.wait", type, null).record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            String outcome = "success";
+            try {
+                runnable.run();
+            } catch (RuntimeException | Error e) {
+                outcome = "error";
+                throw e;
+            } finally {
+                active.decrementAndGet();
+                timer("executor.task.run", type, outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private Timer timer(String name, String type, String outcome) {
+        Timer.Builder builder = Timer.builder(name)
+                .tag("name", executorName)
+                .tag("type", type)
+                .publishPercentileHistogram();
+        if (outcome != null) {
+            builder.tag("outcome", outcome);
+        }
+        return builder.register(registry);
+    }
+}
@@ -1,10 +1,15 @@
 package id.ac.ui.cs.advprog.event.config;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import id.ac.ui.cs.advprog.event.binary.EventBinaryHttpMessageConverter;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     @Value("${CORS_ALLOWED_ORIGIN:http://localhost:3000}")
@@ -16,6 +21,14 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins(allowedOrigin)
                 .allowedMethods("*")
                 .allowedHeaders("*")
+                .exposedHeaders("X-Next-Cursor", "ETag")
                 .allowCredentials(true);
     }
+
+    // Appended rather than registered as a bean: with Accept: */* the first capable converter wins,
+    // and that has to stay the JSON one.
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new EventBinaryHttpMessageConverter());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package id.ac.ui.cs.advprog.event.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import id.ac.ui.cs.advprog.event.dto.BulkTransitionRequest;
+import id.ac.ui.cs.advprog.event.dto.BulkTransitionResult;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.service.EventBulkService;
+
+@CrossOrigin(origins = "${CORS_ALLOWED_ORIGIN:http://localhost:3000}")
+@RestController
+@RequestMapping("/api/events/bulk")
+@PreAuthorize("hasAuthority('Organizer')")
+public class EventBulkController {
+
+    private final EventBulkService eventBulkService;
+
+    public EventBulkController(EventBulkService eventBulkService) {
+        this.eventBulkService = eventBulkService;
+    }
+
+    @PostMapping("/publish")
+    public ResponseEntity<BulkTransitionResult> publishEvents(Authentication auth, @RequestBody BulkTransitionRequest request) {
+        return ResponseEntity.ok(eventBulkService.transition(ownerId(auth), request, EventStatus.PUBLISHED));
+    }
+
+    @PostMapping("/cancel")
+    public ResponseEntity<BulkTransitionResult> cancelEvents(Authentication auth, @RequestBody BulkTransitionRequest request) {
+        return ResponseEntity.ok(eventBulkService.transition(ownerId(auth), request, EventStatus.CANCELLED));
+    }
+
+    @PostMapping("/complete")
+    public ResponseEntity<BulkTransitionResult> completeEvents(Authentication auth, @RequestBody BulkTransitionRequest request) {
+        return ResponseEntity.ok(eventBulkService.transition(ownerId(auth), request, EventStatus.COMPLETED));
+    }
+
+    @PostMapping("/delete-drafts")
+    public ResponseEntity<BulkTransitionResult> deleteDrafts(Authentication auth, @RequestBody BulkTransitionRequest request) {
+        return ResponseEntity.ok(eventBulkService.deleteDrafts(ownerId(auth), request));
+    }
+
+    private UUID ownerId(Authentication auth) {
+        try {
+            return UUID.fromString(auth.getName());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("User ID bukan UUID valid");
+        }
+    }
+}
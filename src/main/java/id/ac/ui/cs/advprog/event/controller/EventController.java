@@ -1,15 +1,23 @@
 package id.ac.ui.cs.advprog.event.controller;
 
+import java.net.URI;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -22,23 +30,49 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import id.ac.ui.cs.advprog.event.binary.EventBinaryCodec;
+import id.ac.ui.cs.advprog.event.cache.EventFacetCounts;
+import id.ac.ui.cs.advprog.event.cache.PublicCatalogSnapshot;
+import id.ac.ui.cs.advprog.event.dto.BatchCreateResponse;
+import id.ac.ui.cs.advprog.event.dto.CalendarDayCount;
 import id.ac.ui.cs.advprog.event.dto.CreateEventDTO;
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventCursor;
+import id.ac.ui.cs.advprog.event.dto.EventFacets;
+import id.ac.ui.cs.advprog.event.dto.EventLookupResponse;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.dto.PublishJob;
 import id.ac.ui.cs.advprog.event.dto.UpdateEventDTO;
+import id.ac.ui.cs.advprog.event.enums.EventField;
 import id.ac.ui.cs.advprog.event.enums.EventStatus;
-import id.ac.ui.cs.advprog.event.exception.EventNotFoundException;
+import id.ac.ui.cs.advprog.event.exception.PreconditionFailedException;
+import id.ac.ui.cs.advprog.event.json.EventJsonResponse;
+import id.ac.ui.cs.advprog.event.json.EventJsonWriter;
 import id.ac.ui.cs.advprog.event.model.Event;
 import id.ac.ui.cs.advprog.event.service.EventService;
+import id.ac.ui.cs.advprog.event.service.PublishJobQueue;
 
 @CrossOrigin(origins = "${CORS_ALLOWED_ORIGIN:http://localhost:3000}")
 @RestController
 @RequestMapping("/api/events")
 public class EventController {
     private static final Logger logger = LoggerFactory.getLogger(EventController.class);
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     @Autowired
     private EventService eventService;
+    @Autowired
+    private PublicCatalogSnapshot publicCatalogSnapshot;
+    @Autowired
+    private PublishJobQueue publishJobQueue;
+    @Autowired
+    private EventFacetCounts eventFacetCounts;
+    @Autowired
+    private EventJsonWriter eventJsonWriter;
 
     @PreAuthorize("hasAuthority('Organizer')")
     @PostMapping
@@ -67,49 +101,104 @@ public class EventController {
     }
 
 
-   @GetMapping
-    public ResponseEntity<?> getAllEvents() {
-    try {
+    @PreAuthorize("hasAuthority('Organizer')")
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse> createEvents(@RequestBody List<CreateEventDTO> createEventDTOs) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UUID userId = null;
-
-        if (authentication != null && authentication.isAuthenticated()
-                && !"anonymousUser".equals(authentication.getPrincipal())) {
+        UUID userId;
+        try {
             userId = UUID.fromString(authentication.getName());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("User ID bukan UUID valid");
         }
 
-        List<Event> events = eventService.listEvents(userId);
-        return ResponseEntity.ok(events);
+        BatchCreateResponse response = eventService.createEvents(createEventDTOs, userId);
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(response, status);
+    }
 
-    } catch (Exception e) {
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed get event");
+    // POST because a few hundred ids do not fit comfortably in a URL.
+    @PostMapping("/lookup")
+    public ResponseEntity<EventLookupResponse> lookupEvents(@RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(eventService.getEvents(ids));
     }
+
+    @GetMapping
+    @EventJsonResponse
+    public ResponseEntity<?> getAllEvents(@RequestParam(value = "cursor", required = false) String cursor,
+                                          @RequestParam(value = "limit", required = false) Integer limit,
+                                          @RequestParam(value = "fields", required = false) String fields,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    EventCursor after = EventCursor.decode(cursor);
+    Set<EventField> selected = EventField.parse(fields);
+    if (limit != null && limit < 1) {
+        throw new IllegalArgumentException("Page size must be at least 1");
     }
+    // Failures are left to GlobalExceptionHandler, so a busy database is a 503 here as on the other routes.
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    UUID userId = null;
 
+    if (authentication != null && authentication.isAuthenticated()
+            && !"anonymousUser".equals(authentication.getPrincipal())) {
+        userId = UUID.fromString(authentication.getName());
+    }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<?> getEventById(@PathVariable("id") UUID id) {
-        try {
-            Event event = eventService.getEvent(id);
-            return ResponseEntity.ok(event);
-        } catch (RuntimeException e) {
+    if (selected != null) {
+        CursorPage<Event> page = eventService.listEvents(userId, selected, after, limit);
+        return withNextCursor(ResponseEntity.ok(), page).body(eventJsonWriter.select(page.getItems(), selected));
+    }
 
-            throw new EventNotFoundException("Event not found");
+    // The snapshot is pre-rendered JSON; binary clients go through the regular page.
+    if (userId == null && after == null && limit == null && !acceptsBinary(accept)) {
+        return publicCatalog(acceptEncoding);
+    }
 
+    CursorPage<EventSummary> page = eventService.listEvents(userId, after, limit);
+    return withNextCursor(ResponseEntity.ok(), page).body(page.getItems());
+    }
 
 
+    @GetMapping("/{id}")
+    @EventJsonResponse
+    public ResponseEntity<?> getEventById(@PathVariable("id") UUID id,
+                                          @RequestParam(value = "fields", required = false) String fields,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Set<EventField> selected = EventField.parse(fields);
+        boolean binary = selected == null && acceptsBinary(accept);
+        // Revalidation only needs the version column, not the row. Every representation carries its own
+        // tag, so a cached copy is never revalidated as another media type or field set.
+        if (ifNoneMatch != null) {
+            String etag = etag(eventService.getEventVersion(id), selected, binary);
+            if (etagListContains(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+            }
+        }
+        if (selected != null) {
+            Event event = eventService.getEvent(id, selected);
+            return ResponseEntity.ok().eTag(etag(event.getVersion(), selected, false)).varyBy(HttpHeaders.ACCEPT)
+                    .body(eventJsonWriter.select(event, selected));
         }
+        Event event = eventService.getEvent(id);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag(event.getVersion(), null, binary))
+                .varyBy(HttpHeaders.ACCEPT);
+        if (binary) {
+            // Pinned so negotiation cannot pick JSON for a body tagged as binary.
+            builder.contentType(MediaType.parseMediaType(EventBinaryCodec.MEDIA_TYPE));
+        }
+        return builder.body(event);
     }
     @PreAuthorize("hasAuthority('Organizer')")
     @PutMapping("/{id}")
-    public ResponseEntity<UpdateEventDTO> updateEvent(@PathVariable("id") UUID id, @RequestBody UpdateEventDTO dto) {
+    public ResponseEntity<UpdateEventDTO> updateEvent(@PathVariable("id") UUID id, @RequestBody UpdateEventDTO dto,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
 
-            UpdateEventDTO updatedEvent = eventService.updateEvent(id, dto);
+            UpdateEventDTO updatedEvent = eventService.updateEvent(id, dto, ifMatchVersion(ifMatch));
 
             return ResponseEntity.ok(updatedEvent);
-        } catch (EventNotFoundException e) {
-            throw new EventNotFoundException("Event not found");
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Failed create event: " + e.getMessage(), e);
         }
@@ -119,71 +208,216 @@ public class EventController {
         try {
             eventService.deleteEvent(id);
             return ResponseEntity.noContent().build();
-        } catch (EventNotFoundException e) {
-            throw new EventNotFoundException("Event not found");
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Event refuse to delete");
         }
     }
 
     @GetMapping("/date/{date}")
-    public ResponseEntity<List<Event>> getEventsByDate(@PathVariable("date") LocalDate date) {
-        List<Event> events = eventService.getEventByDate(date);
-        return ResponseEntity.ok(events);
+    @EventJsonResponse
+    public ResponseEntity<List<EventSummary>> getEventsByDate(@PathVariable("date") LocalDate date,
+                                                       @RequestParam(value = "status", required = false) List<EventStatus> statuses,
+                                                       @RequestParam(value = "cursor", required = false) String cursor,
+                                                       @RequestParam(value = "limit", required = false) Integer limit) {
+        return rangePage(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), statuses, cursor, limit);
+    }
+
+    @GetMapping("/range")
+    @EventJsonResponse
+    public ResponseEntity<List<EventSummary>> getEventsInRange(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                        @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                        @RequestParam(value = "status", required = false) List<EventStatus> statuses,
+                                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                                        @RequestParam(value = "limit", required = false) Integer limit) {
+        return rangePage(from, to, statuses, cursor, limit);
+    }
+
+    // The ISO week (Monday to Sunday) containing the given date.
+    @GetMapping("/week/{date}")
+    @EventJsonResponse
+    public ResponseEntity<List<EventSummary>> getEventsInWeek(@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                       @RequestParam(value = "status", required = false) List<EventStatus> statuses,
+                                                       @RequestParam(value = "cursor", required = false) String cursor,
+                                                       @RequestParam(value = "limit", required = false) Integer limit) {
+        LocalDate monday = date.with(DayOfWeek.MONDAY);
+        return rangePage(monday.atStartOfDay(), monday.plusWeeks(1).atStartOfDay(), statuses, cursor, limit);
+    }
+
+    @GetMapping("/month/{month}")
+    @EventJsonResponse
+    public ResponseEntity<List<EventSummary>> getEventsInMonth(@PathVariable("month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+                                                        @RequestParam(value = "status", required = false) List<EventStatus> statuses,
+                                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                                        @RequestParam(value = "limit", required = false) Integer limit) {
+        return rangePage(month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay(), statuses, cursor, limit);
+    }
+
+    // Per-day event counts for [from, to), computed by a single GROUP BY.
+    @GetMapping("/calendar")
+    public ResponseEntity<List<CalendarDayCount>> getCalendar(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                              @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                              @RequestParam(value = "status", required = false) List<EventStatus> statuses) {
+        return ResponseEntity.ok(eventService.getCalendar(from, to, statuses));
+    }
+
+    // Counts next to each facet value of the public catalog; served from memory, never per-request SQL.
+    @GetMapping("/facets")
+    public ResponseEntity<EventFacets> getFacets() {
+        return ResponseEntity.ok(eventFacetCounts.current());
+    }
+
+    private ResponseEntity<List<EventSummary>> rangePage(LocalDateTime from, LocalDateTime to, List<EventStatus> statuses,
+                                                  String cursor, Integer limit) {
+        CursorPage<EventSummary> page = eventService.listEventsInRange(from, to, statuses, EventCursor.decode(cursor), limit);
+        return withNextCursor(ResponseEntity.ok(), page).body(page.getItems());
     }
 
+    // Publishing is queued: the caller gets 202 and polls the job instead of holding the request open.
+    // The version lookup is a cheap existence and If-Match check so 404/412 are still reported synchronously.
     @PreAuthorize("hasAuthority('Organizer')")
     @PatchMapping("/{id}/publish")
-    public CompletableFuture<ResponseEntity<?>> publishEvent(@PathVariable("id") UUID id) {
-        return eventService.publishEvent(id)
-                .thenApply(response -> {
-                    if (!response.isSuccess()) {
-                        return ResponseEntity
-                                .status(HttpStatus.BAD_REQUEST)
-                                .body(null);
-                    }
-                    return ResponseEntity.ok(response.getData());
-                })
-                .exceptionally(throwable -> {
-                    if (throwable.getCause() instanceof EventNotFoundException) {
-                        throw new EventNotFoundException("Event not found");
-                    }
-                    throw new RuntimeException("An unexpected error occurred");
-                });
+    public ResponseEntity<PublishJob> publishEvent(@PathVariable("id") UUID id,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ifMatchVersion(ifMatch);
+        long currentVersion = eventService.getEventVersion(id);
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+            throw new PreconditionFailedException("Event has been modified");
+        }
+        String requestedBy = SecurityContextHolder.getContext().getAuthentication().getName();
+        PublishJob job = publishJobQueue.submit(id, expectedVersion, requestedBy);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/events/publish-jobs/" + job.getId()))
+                .body(job);
+    }
+
+    @PreAuthorize("hasAuthority('Organizer')")
+    @GetMapping("/publish-jobs/{jobId}")
+    public ResponseEntity<PublishJob> getPublishJob(@PathVariable("jobId") UUID jobId) {
+        String requestedBy = SecurityContextHolder.getContext().getAuthentication().getName();
+        return publishJobQueue.find(jobId, requestedBy)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PreAuthorize("hasAuthority('Organizer')")
     @PatchMapping("/{id}/cancel")
-    public ResponseEntity<EventStatus> cancelEvent(@PathVariable("id") UUID id) {
-        try {
-            EventStatus event = eventService.cancelEvent(id).getData();
-            return ResponseEntity.ok(event);
-        } catch (EventNotFoundException e) {
-            throw new EventNotFoundException("Event not found");
-        }
+    public ResponseEntity<EventStatus> cancelEvent(@PathVariable("id") UUID id,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EventStatus event = eventService.cancelEvent(id, ifMatchVersion(ifMatch)).getData();
+        return ResponseEntity.ok(event);
     }
     @PreAuthorize("hasAuthority('Organizer')")
     @PatchMapping("/{id}/complete")
-    public ResponseEntity<EventStatus> completeEvent(@PathVariable("id") UUID id) {
-        try {
-            EventStatus event = eventService.completeEvent(id).getData();
-            return ResponseEntity.ok(event);
-        } catch (EventNotFoundException e) {
-            throw new EventNotFoundException("Event not found");
-        }
+    public ResponseEntity<EventStatus> completeEvent(@PathVariable("id") UUID id,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EventStatus event = eventService.completeEvent(id, ifMatchVersion(ifMatch)).getData();
+        return ResponseEntity.ok(event);
     }
     @GetMapping("/organizer/my-events")
     @PreAuthorize("hasAuthority('Organizer')")
-    public ResponseEntity<?> getMyEvents(Authentication auth) {
+    public ResponseEntity<?> getMyEvents(Authentication auth,
+                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                         @RequestParam(value = "limit", required = false) Integer limit,
+                                         @RequestParam(value = "fields", required = false) String fields) {
         UUID organizerId = UUID.fromString(auth.getName()); 
-        List<Event> events = eventService.listEventsByOrganizer(organizerId);
-        return ResponseEntity.ok(Map.of("data", Map.of("events", events)));
+        Set<EventField> selected = EventField.parse(fields);
+        if (selected != null) {
+            CursorPage<Event> page = eventService.listEventsByOrganizer(organizerId, selected, EventCursor.decode(cursor), limit);
+            return withNextCursor(ResponseEntity.ok(), page)
+                    .body(Map.of("data", Map.of("events", eventJsonWriter.select(page.getItems(), selected))));
+        }
+        CursorPage<EventSummary> page = eventService.listEventsByOrganizer(organizerId, EventCursor.decode(cursor), limit);
+        return withNextCursor(ResponseEntity.ok(), page).body(Map.of("data", Map.of("events", page.getItems())));
     }
 
+    private static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // JSON is tagged with the bare version and binary with a "-b" suffix. A sparse field set is
+    // normalized to a bitmask of EventField ordinals, so ?fields=title,id and ?fields=id,title share a tag.
+    private static String etag(long version, Set<EventField> fields, boolean binary) {
+        if (binary) {
+            return "\"" + version + "-b\"";
+        }
+        if (fields == null) {
+            return etag(version);
+        }
+        long mask = 0;
+        for (EventField field : fields) {
+            mask |= 1L << field.ordinal();
+        }
+        return "\"" + version + "-f" + Long.toHexString(mask) + "\"";
+    }
 
+    private static boolean etagListContains(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    // If-Match uses strong comparison, so weak or foreign tags can never match the current version.
+    // Every representation of a version may be written back, so a representation suffix is ignored.
+    private static Long ifMatchVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("Event has been modified");
+        }
+        String opaque = tag.substring(1, tag.length() - 1);
+        int suffix = opaque.indexOf('-');
+        try {
+            return Long.parseLong(suffix < 0 ? opaque : opaque.substring(0, suffix));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("Event has been modified");
+        }
+    }
 
+    // Spring answers If-None-Match with a 304 from the ETag alone, so a revalidation costs no body write.
+    private ResponseEntity<byte[]> publicCatalog(String acceptEncoding) {
+        PublicCatalogSnapshot.Snapshot snapshot = publicCatalogSnapshot.current();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(gzip ? snapshot.gzipEtag() : snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (snapshot.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, snapshot.nextCursor());
+        }
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return builder.body(snapshot.json());
+    }
 
+    private static boolean acceptsBinary(String accept) {
+        return accept != null && accept.contains(EventBinaryCodec.MEDIA_TYPE);
+    }
 
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 
+    private ResponseEntity.BodyBuilder withNextCursor(ResponseEntity.BodyBuilder builder, CursorPage<?> page) {
+        if (page.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return builder;
+    }
 }
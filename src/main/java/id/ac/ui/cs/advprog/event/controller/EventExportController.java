@@ -0,0 +1,68 @@
+package id.ac.ui.cs.advprog.event.controller;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import id.ac.ui.cs.advprog.event.dto.EventExportFilter;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.enums.ExportFormat;
+import id.ac.ui.cs.advprog.event.service.EventExportService;
+import jakarta.servlet.http.HttpServletResponse;
+
+@CrossOrigin(origins = "${CORS_ALLOWED_ORIGIN:http://localhost:3000}")
+@RestController
+@RequestMapping("/api/events/export")
+public class EventExportController {
+
+    private final EventExportService eventExportService;
+
+    public EventExportController(EventExportService eventExportService) {
+        this.eventExportService = eventExportService;
+    }
+
+    // Rows are written straight to the servlet stream as the query cursor advances,
+    // so nothing proportional to the result size is held in memory.
+    @GetMapping
+    public void exportEvents(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                             @RequestParam(value = "status", required = false) List<EventStatus> statuses,
+                             @RequestParam(value = "organizer", required = false) UUID organizerId,
+                             @RequestParam(value = "from", required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                             @RequestParam(value = "to", required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                             HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        EventExportFilter filter = new EventExportFilter(statuses, organizerId, from, to);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"events." + exportFormat.getExtension() + "\"");
+        eventExportService.export(filter, currentUserId(), exportFormat, response.getOutputStream());
+    }
+
+    private UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getPrincipal())) {
+            return null;
+        }
+        try {
+            return UUID.fromString(authentication.getName());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package id.ac.ui.cs.advprog.event.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventFilter;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventSort;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.json.EventJsonResponse;
+import id.ac.ui.cs.advprog.event.service.EventFilterService;
+
+@CrossOrigin(origins = "${CORS_ALLOWED_ORIGIN:http://localhost:3000}")
+@RestController
+@RequestMapping("/api/events/filter")
+public class EventFilterController {
+
+    private final EventFilterService eventFilterService;
+
+    public EventFilterController(EventFilterService eventFilterService) {
+        this.eventFilterService = eventFilterService;
+    }
+
+    // Price, date, location and status filters combined server side; the next page's cursor comes back
+    // in X-Next-Cursor as on the catalog.
+    @GetMapping
+    @EventJsonResponse
+    public ResponseEntity<List<EventSummary>> filterEvents(@RequestParam(value = "status", required = false) List<EventStatus> statuses,
+                                                    @RequestParam(value = "location", required = false) String location,
+                                                    @RequestParam(value = "min_price", required = false) Double minPrice,
+                                                    @RequestParam(value = "max_price", required = false) Double maxPrice,
+                                                    @RequestParam(value = "from", required = false)
+                                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                    @RequestParam(value = "to", required = false)
+                                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                    @RequestParam(value = "sort", defaultValue = "date") String sort,
+                                                    @RequestParam(value = "order", defaultValue = "asc") String order,
+                                                    @RequestParam(value = "cursor", required = false) String cursor,
+                                                    @RequestParam(value = "limit", required = false) Integer limit) {
+        EventFilter filter = new EventFilter(statuses, location == null || location.isBlank() ? null : location.trim(),
+                minPrice, maxPrice, from, to, EventSort.from(sort), descending(order));
+        CursorPage<EventSummary> page = eventFilterService.filter(filter, currentUserId(), cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(EventController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    private static boolean descending(String order) {
+        if ("asc".equalsIgnoreCase(order)) {
+            return false;
+        }
+        if ("desc".equalsIgnoreCase(order)) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unsupported order: " + order);
+    }
+
+    private UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getPrincipal())) {
+            return null;
+        }
+        try {
+            return UUID.fromString(authentication.getName());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package id.ac.ui.cs.advprog.event.controller;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventSearchHit;
+import id.ac.ui.cs.advprog.event.dto.EventSuggestion;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.json.EventJsonResponse;
+import id.ac.ui.cs.advprog.event.search.EventSearchIndex;
+import id.ac.ui.cs.advprog.event.search.EventSuggestionIndex;
+import id.ac.ui.cs.advprog.event.service.EventSearchService;
+
+@CrossOrigin(origins = "${CORS_ALLOWED_ORIGIN:http://localhost:3000}")
+@RestController
+@RequestMapping("/api/events/search")
+public class EventSearchController {
+
+    private static final int MAX_INSTANT_RESULTS = 50;
+
+    private final EventSearchService eventSearchService;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventSuggestionIndex eventSuggestionIndex;
+
+    public EventSearchController(EventSearchService eventSearchService, EventSearchIndex eventSearchIndex,
+                                 EventSuggestionIndex eventSuggestionIndex) {
+        this.eventSearchService = eventSearchService;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventSuggestionIndex = eventSuggestionIndex;
+    }
+
+    // Results are ordered by relevance; the next page's cursor comes back in X-Next-Cursor.
+    @GetMapping
+    @EventJsonResponse
+    public ResponseEntity<List<EventSummary>> search(@RequestParam("q") String query,
+                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam(value = "limit", required = false) Integer limit) {
+        CursorPage<EventSummary> page = eventSearchService.search(query, currentUserId(), cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(EventController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    // Search-as-you-type over public events, answered from the in-memory index without a database round trip.
+    @GetMapping("/instant")
+    public ResponseEntity<List<EventSearchHit>> instantSearch(@RequestParam("q") String query,
+                                                              @RequestParam(value = "status", required = false) List<EventStatus> statuses,
+                                                              @RequestParam(value = "from", required = false)
+                                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                              @RequestParam(value = "to", required = false)
+                                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                              @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return ResponseEntity.ok(eventSearchIndex.search(query, statuses, from, to, Math.min(limit, MAX_INSTANT_RESULTS)));
+    }
+
+    // Autocomplete for titles and locations of public events, ranked by the soonest upcoming date.
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EventSuggestion>> suggest(@RequestParam("q") String prefix,
+                                                         @RequestParam(value = "limit", defaultValue = "8") int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic())
+                .body(eventSuggestionIndex.suggest(prefix, Math.min(limit, MAX_INSTANT_RESULTS)));
+    }
+
+    private UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getPrincipal())) {
+            return null;
+        }
+        try {
+            return UUID.fromString(authentication.getName());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateResponse {
+    private int created;
+    private int failed;
+    private List<BatchItemResult> results;
+}
@@ -0,0 +1,21 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransitionResult {
+    private EventStatus status;
+    private List<UUID> transitioned;
+    private Map<UUID, String> rejected;
+}
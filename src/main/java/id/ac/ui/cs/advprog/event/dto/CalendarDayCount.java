@@ -0,0 +1,15 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarDayCount {
+    private LocalDate date;
+    private Long count;
+}
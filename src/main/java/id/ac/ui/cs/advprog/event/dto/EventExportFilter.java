@@ -0,0 +1,10 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+
+public record EventExportFilter(List<EventStatus> statuses, UUID organizerId, LocalDateTime from, LocalDateTime to) {
+}
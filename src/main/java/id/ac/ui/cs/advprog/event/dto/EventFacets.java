@@ -0,0 +1,24 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventFacets {
+    private List<FacetValue> location;
+    private List<FacetValue> month;
+
+    @JsonProperty("price_band")
+    private List<FacetValue> priceBand;
+
+    private List<FacetValue> status;
+}
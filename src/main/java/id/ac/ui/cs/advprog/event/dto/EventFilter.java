@@ -0,0 +1,18 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import id.ac.ui.cs.advprog.event.enums.EventSort;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+
+// Bounds are inclusive for price and half-open [from, to) for dates, like the range endpoints.
+public record EventFilter(List<EventStatus> statuses,
+                          String location,
+                          Double minPrice,
+                          Double maxPrice,
+                          LocalDateTime from,
+                          LocalDateTime to,
+                          EventSort sort,
+                          boolean descending) {
+}
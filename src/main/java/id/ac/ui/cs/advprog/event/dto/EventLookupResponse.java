@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import id.ac.ui.cs.advprog.event.model.Event;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventLookupResponse {
+    private List<Event> events;
+    private List<UUID> missing;
+}
@@ -0,0 +1,18 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+
+public record EventSearchHit(UUID id,
+                             String title,
+                             String location,
+                             @JsonProperty("event_date")
+                             @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+                             LocalDateTime eventDate,
+                             EventStatus status) {
+}
@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// type is "title" or "location"; location suggestions are not tied to a single event.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EventSuggestion(String text,
+                              String type,
+                              @JsonProperty("event_id")
+                              UUID eventId,
+                              @JsonProperty("event_date")
+                              @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+                              LocalDateTime eventDate) {
+}
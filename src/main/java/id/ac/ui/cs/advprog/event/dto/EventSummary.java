@@ -0,0 +1,36 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// What list views show of an event. Read with a constructor projection, so description (TEXT) and the
+// bookkeeping columns never leave the database; GET /api/events/{id} has the full entity.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSummary {
+    private UUID id;
+    private String title;
+
+    @JsonProperty("event_date")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime eventDate;
+
+    private String location;
+    private double basePrice;
+    private EventStatus status;
+
+    public static EventSummary of(Event event) {
+        return new EventSummary(event.getId(), event.getTitle(), event.getEventDate(), event.getLocation(),
+                event.getBasePrice(), event.getStatus());
+    }
+}
@@ -0,0 +1,19 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One GROUP BY cell of the public catalog; EventFacetCounts folds cells into the individual facets.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCell {
+    private String location;
+    private Integer year;
+    private Integer month;
+    private Double basePrice;
+    private EventStatus status;
+    private Long count;
+}
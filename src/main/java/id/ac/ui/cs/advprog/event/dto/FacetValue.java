@@ -0,0 +1,13 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetValue {
+    private String value;
+    private long count;
+}
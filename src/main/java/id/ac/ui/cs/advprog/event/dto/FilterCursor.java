@@ -0,0 +1,42 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import id.ac.ui.cs.advprog.event.enums.EventSort;
+
+// Keyset position of a filtered search: the sort key of the last row plus its id as tie-breaker.
+// The sort is part of the cursor so a cursor cannot be replayed against a different ordering.
+public record FilterCursor(EventSort sort, LocalDateTime eventDate, double basePrice, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static FilterCursor of(EventSort sort, EventSummary last) {
+        return new FilterCursor(sort, last.getEventDate(), last.getBasePrice(), last.getId());
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + eventDate + SEPARATOR + basePrice + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FilterCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new FilterCursor(EventSort.valueOf(parts[0]), LocalDateTime.parse(parts[1]),
+                    Double.parseDouble(parts[2]), UUID.fromString(parts[3]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
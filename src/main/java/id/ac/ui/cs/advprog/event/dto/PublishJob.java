@@ -0,0 +1,46 @@
+package id.ac.ui.cs.advprog.event.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.enums.PublishJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublishJob {
+    private UUID id;
+
+    @JsonProperty("event_id")
+    private UUID eventId;
+
+    private PublishJobStatus status;
+    private String message;
+
+    @JsonProperty("event_status")
+    private EventStatus eventStatus;
+
+    @JsonProperty("submitted_at")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime submittedAt;
+
+    @JsonProperty("completed_at")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime completedAt;
+
+    @JsonIgnore
+    private Long expectedVersion;
+
+    @JsonIgnore
+    private String requestedBy;
+}
@@ -0,0 +1,54 @@
+package id.ac.ui.cs.advprog.event.enums;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+// Properties a client can ask for with ?fields=, named as they appear in the JSON.
+public enum EventField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    DESCRIPTION("description", "description"),
+    EVENT_DATE("event_date", "eventDate"),
+    LOCATION("location", "location"),
+    BASE_PRICE("basePrice", "basePrice"),
+    STATUS("status", "status"),
+    USER_ID("user_id", "userId"),
+    UPDATED_AT("updated_at", "updatedAt");
+
+    private final String jsonName;
+    private final String property;
+
+    EventField(String jsonName, String property) {
+        this.jsonName = jsonName;
+        this.property = property;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    // Null when no fields parameter was sent, so callers can keep their full-representation path.
+    public static Set<EventField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<EventField> selected = EnumSet.noneOf(EventField.class);
+        for (String name : fields.split(",")) {
+            selected.add(from(name.trim()));
+        }
+        return selected;
+    }
+
+    public static EventField from(String name) {
+        for (EventField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(name) || field.property.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + name);
+    }
+}
@@ -0,0 +1,27 @@
+package id.ac.ui.cs.advprog.event.enums;
+
+public enum EventSort {
+    DATE("date", "eventDate"),
+    PRICE("price", "basePrice");
+
+    private final String parameter;
+    private final String property;
+
+    EventSort(String parameter, String property) {
+        this.parameter = parameter;
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static EventSort from(String value) {
+        for (EventSort sort : values()) {
+            if (sort.parameter.equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort: " + value);
+    }
+}
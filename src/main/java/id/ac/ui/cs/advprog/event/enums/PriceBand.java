@@ -0,0 +1,28 @@
+package id.ac.ui.cs.advprog.event.enums;
+
+// Ticket price bands in rupiah, used for catalog facets. Upper bounds are exclusive.
+public enum PriceBand {
+    FREE(0),
+    UNDER_100K(100_000),
+    FROM_100K_TO_500K(500_000),
+    FROM_500K_TO_1M(1_000_000),
+    FROM_1M(Double.POSITIVE_INFINITY);
+
+    private final double upperBound;
+
+    PriceBand(double upperBound) {
+        this.upperBound = upperBound;
+    }
+
+    public static PriceBand of(double price) {
+        if (price <= 0) {
+            return FREE;
+        }
+        for (PriceBand band : values()) {
+            if (band != FREE && price < band.upperBound) {
+                return band;
+            }
+        }
+        return FROM_1M;
+    }
+}
@@ -0,0 +1,8 @@
+package id.ac.ui.cs.advprog.event.enums;
+
+public enum PublishJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
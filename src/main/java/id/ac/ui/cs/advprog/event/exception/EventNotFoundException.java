@@ -3,9 +3,11 @@ package id.ac.ui.cs.advprog.event.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+// Thrown for every miss, most of them ids that never existed. GlobalExceptionHandler only reports the
+// message, so the stack trace is never captured.
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class EventNotFoundException extends RuntimeException {
     public EventNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,15 @@
+package id.ac.ui.cs.advprog.event.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Opts a handler into EventJsonWriter for Event, EventSummary and List<EventSummary> bodies.
+// Other bodies returned by the same handler (errors, empty results) keep the regular Jackson path.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EventJsonResponse {
+}
@@ -0,0 +1,57 @@
+package id.ac.ui.cs.advprog.event.json;
+
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+// The Jackson converter is still the one writing the response, so content negotiation, headers and
+// the generator setup are unchanged; only the body it is handed serializes itself through EventJsonWriter.
+@ControllerAdvice
+public class EventJsonResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final EventJsonWriter eventJsonWriter;
+
+    public EventJsonResponseAdvice(EventJsonWriter eventJsonWriter) {
+        this.eventJsonWriter = eventJsonWriter;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(EventJsonResponse.class)
+                && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof Event event) {
+            return (PrewrittenJson) gen -> eventJsonWriter.write(event, gen);
+        }
+        if (body instanceof List<?> list && isSummaryList(list)) {
+            @SuppressWarnings("unchecked")
+            List<EventSummary> summaries = (List<EventSummary>) list;
+            return (PrewrittenJson) gen -> eventJsonWriter.writeSummaries(summaries, gen);
+        }
+        return body;
+    }
+
+    private static boolean isSummaryList(List<?> list) {
+        for (Object item : list) {
+            if (!(item instanceof EventSummary)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,276 @@
+package id.ac.ui.cs.advprog.event.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventField;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+// Hand-written serializer for the two shapes every list and detail response is made of. Property names
+// and order are taken from the application ObjectMapper's own bean serializers at startup, so the bytes
+// match the reflective path exactly; a property without a writer here fails startup instead of silently
+// disappearing from responses.
+@Component
+public class EventJsonWriter {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final int DATE_TIME_LENGTH = 19;
+    private static final int POOLED_BUFFERS = 32;
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
+    @FunctionalInterface
+    private interface FieldWriter<T> {
+        void write(JsonGenerator gen, SerializableString name, T value) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Body {
+        void write(JsonGenerator gen) throws IOException;
+    }
+
+    private record Property<T>(SerializableString name, FieldWriter<T> writer) {
+    }
+
+    private final JsonFactory jsonFactory;
+    private final boolean writeNulls;
+    private final boolean enumsUsingToString;
+    private final boolean indent;
+    private final List<Property<Event>> eventProperties;
+    private final List<Property<EventSummary>> summaryProperties;
+    private final Map<Set<EventField>, List<Property<Event>>> selections = new ConcurrentHashMap<>();
+    // Not ThreadLocal: request threads may be virtual, and a per-thread buffer would never be reused.
+    private final BlockingQueue<ByteArrayBuilder> buffers = new ArrayBlockingQueue<>(POOLED_BUFFERS);
+
+    public EventJsonWriter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig()
+                .getDefaultPropertyInclusion().getValueInclusion();
+        this.writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        this.enumsUsingToString = objectMapper.isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+        this.indent = objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT);
+
+        this.eventProperties = plan(objectMapper, Event.class, Map.<String, FieldWriter<Event>>of(
+                "id", (gen, name, e) -> uuid(gen, name, e.getId()),
+                "title", (gen, name, e) -> string(gen, name, e.getTitle()),
+                "description", (gen, name, e) -> string(gen, name, e.getDescription()),
+                "event_date", (gen, name, e) -> dateTime(gen, name, e.getEventDate()),
+                "location", (gen, name, e) -> string(gen, name, e.getLocation()),
+                "basePrice", (gen, name, e) -> number(gen, name, e.getBasePrice()),
+                "status", (gen, name, e) -> enumValue(gen, name, e.getStatus()),
+                "user_id", (gen, name, e) -> uuid(gen, name, e.getUserId()),
+                "updated_at", (gen, name, e) -> dateTime(gen, name, e.getUpdatedAt())));
+        this.summaryProperties = plan(objectMapper, EventSummary.class, Map.<String, FieldWriter<EventSummary>>of(
+                "id", (gen, name, s) -> uuid(gen, name, s.getId()),
+                "title", (gen, name, s) -> string(gen, name, s.getTitle()),
+                "event_date", (gen, name, s) -> dateTime(gen, name, s.getEventDate()),
+                "location", (gen, name, s) -> string(gen, name, s.getLocation()),
+                "basePrice", (gen, name, s) -> number(gen, name, s.getBasePrice()),
+                "status", (gen, name, s) -> enumValue(gen, name, s.getStatus())));
+    }
+
+    public void write(Event event, JsonGenerator gen) throws IOException {
+        writeObject(event, eventProperties, gen);
+    }
+
+    public void write(EventSummary summary, JsonGenerator gen) throws IOException {
+        writeObject(summary, summaryProperties, gen);
+    }
+
+    public void writeSummaries(List<EventSummary> summaries, JsonGenerator gen) throws IOException {
+        gen.writeStartArray();
+        for (EventSummary summary : summaries) {
+            writeObject(summary, summaryProperties, gen);
+        }
+        gen.writeEndArray();
+    }
+
+    // Sparse fieldsets: the selected subset of the full representation, in the same order and format.
+    public PrewrittenJson select(Event event, Set<EventField> fields) {
+        List<Property<Event>> properties = selectedProperties(fields);
+        return gen -> writeObject(event, properties, gen);
+    }
+
+    public PrewrittenJson select(List<Event> events, Set<EventField> fields) {
+        List<Property<Event>> properties = selectedProperties(fields);
+        return gen -> {
+            gen.writeStartArray();
+            for (Event event : events) {
+                writeObject(event, properties, gen);
+            }
+            gen.writeEndArray();
+        };
+    }
+
+    private List<Property<Event>> selectedProperties(Set<EventField> fields) {
+        return selections.computeIfAbsent(Set.copyOf(fields), selected -> {
+            List<Property<Event>> properties = new ArrayList<>();
+            for (Property<Event> property : eventProperties) {
+                if (selected.contains(EventField.from(property.name().getValue()))) {
+                    properties.add(property);
+                }
+            }
+            return List.copyOf(properties);
+        });
+    }
+
+    public byte[] toBytes(Event event) {
+        return toBytes(gen -> write(event, gen));
+    }
+
+    public byte[] toBytes(List<EventSummary> summaries) {
+        return toBytes(gen -> writeSummaries(summaries, gen));
+    }
+
+    byte[] toBytes(Body body) {
+        ByteArrayBuilder buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+        }
+        try {
+            try (JsonGenerator gen = createGenerator(buffer)) {
+                body.write(gen);
+            }
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // reset() keeps the largest block, which is the point of pooling; oversized ones are dropped.
+            boolean reusable = buffer.size() <= MAX_POOLED_BUFFER_SIZE;
+            buffer.reset();
+            if (reusable) {
+                buffers.offer(buffer);
+            }
+        }
+    }
+
+    private JsonGenerator createGenerator(ByteArrayBuilder buffer) throws IOException {
+        JsonGenerator gen = jsonFactory.createGenerator(buffer);
+        if (indent) {
+            gen.useDefaultPrettyPrinter();
+        }
+        return gen;
+    }
+
+    private static <T> void writeObject(T value, List<Property<T>> properties, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        for (Property<T> property : properties) {
+            property.writer().write(gen, property.name(), value);
+        }
+        gen.writeEndObject();
+    }
+
+    private static <T> List<Property<T>> plan(ObjectMapper objectMapper, Class<T> type,
+                                              Map<String, FieldWriter<T>> writers) {
+        JsonSerializer<Object> serializer;
+        try {
+            serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(type);
+        } catch (JsonMappingException e) {
+            throw new IllegalStateException("No serializer for " + type.getSimpleName(), e);
+        }
+        List<Property<T>> properties = new ArrayList<>();
+        Iterator<PropertyWriter> declared = serializer.properties();
+        while (declared.hasNext()) {
+            String name = declared.next().getName();
+            FieldWriter<T> writer = writers.get(name);
+            if (writer == null) {
+                throw new IllegalStateException("EventJsonWriter has no writer for " + type.getSimpleName() + "." + name);
+            }
+            properties.add(new Property<>(new SerializedString(name), writer));
+        }
+        return List.copyOf(properties);
+    }
+
+    private void string(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value == null) {
+            writeNull(gen, name);
+            return;
+        }
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    private void uuid(JsonGenerator gen, SerializableString name, UUID value) throws IOException {
+        string(gen, name, value == null ? null : value.toString());
+    }
+
+    private void number(JsonGenerator gen, SerializableString name, double value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    private void enumValue(JsonGenerator gen, SerializableString name, Enum<?> value) throws IOException {
+        string(gen, name, value == null ? null : enumsUsingToString ? value.toString() : value.name());
+    }
+
+    private void dateTime(JsonGenerator gen, SerializableString name, LocalDateTime value) throws IOException {
+        if (value == null) {
+            writeNull(gen, name);
+            return;
+        }
+        gen.writeFieldName(name);
+        int year = value.getYear();
+        if (year < 1 || year > 9999) {
+            gen.writeString(DATE_TIME_FORMAT.format(value));
+            return;
+        }
+        char[] chars = new char[DATE_TIME_LENGTH];
+        digits(chars, 0, year, 4);
+        chars[4] = '-';
+        digits(chars, 5, value.getMonthValue(), 2);
+        chars[7] = '-';
+        digits(chars, 8, value.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        digits(chars, 11, value.getHour(), 2);
+        chars[13] = ':';
+        digits(chars, 14, value.getMinute(), 2);
+        chars[16] = ':';
+        digits(chars, 17, value.getSecond(), 2);
+        gen.writeString(chars, 0, chars.length);
+    }
+
+    // Same output as DATE_TIME_FORMAT for years 1-9999, without the formatter's StringBuilder and String.
+    private static void digits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private void writeNull(JsonGenerator gen, SerializableString name) throws IOException {
+        if (writeNulls) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package id.ac.ui.cs.advprog.event.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+// A response body (or part of one) that writes itself straight to the converter's generator.
+@FunctionalInterface
+public interface PrewrittenJson extends JsonSerializable {
+    void write(JsonGenerator gen) throws IOException;
+
+    @Override
+    default void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        write(gen);
+    }
+
+    @Override
+    default void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        write(gen);
+    }
+}
@@ -0,0 +1,15 @@
+package id.ac.ui.cs.advprog.event.model;
+
+import java.util.UUID;
+
+// previous is null for a creation, current is null for a deletion.
+public record EventChangedEvent(EventState previous, EventState current) {
+
+    public UUID id() {
+        return current != null ? current.id() : previous.id();
+    }
+
+    public boolean touchesPublic() {
+        return (previous != null && previous.isPublic()) || (current != null && current.isPublic());
+    }
+}
@@ -0,0 +1,33 @@
+package id.ac.ui.cs.advprog.event.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+
+// Immutable copy of an Event taken at the moment of a change, so listeners never observe later mutations.
+public record EventState(UUID id,
+                         String title,
+                         String description,
+                         LocalDateTime eventDate,
+                         String location,
+                         double basePrice,
+                         EventStatus status,
+                         UUID userId) {
+
+    public static EventState of(Event event) {
+        if (event == null) {
+            return null;
+        }
+        return new EventState(event.getId(), event.getTitle(), event.getDescription(), event.getEventDate(),
+                event.getLocation(), event.getBasePrice(), event.getStatus(), event.getUserId());
+    }
+
+    public EventState withStatus(EventStatus newStatus) {
+        return new EventState(id, title, description, eventDate, location, basePrice, newStatus, userId);
+    }
+
+    public boolean isPublic() {
+        return status == EventStatus.PUBLISHED || status == EventStatus.COMPLETED;
+    }
+}
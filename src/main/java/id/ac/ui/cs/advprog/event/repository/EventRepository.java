@@ -1,19 +1,38 @@
 package id.ac.ui.cs.advprog.event.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import id.ac.ui.cs.advprog.event.dto.CalendarDayCount;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.dto.FacetCell;
 import id.ac.ui.cs.advprog.event.enums.EventStatus;
-import id.ac.ui.cs.advprog.event.model.Event; 
+import id.ac.ui.cs.advprog.event.model.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, UUID> {
+public interface EventRepository extends JpaRepository<Event, UUID>, JpaSpecificationExecutor<Event>,
+        EventRepositoryCustom {
+    // List views read only these columns; see EventSummary.
+    String SUMMARY = "new id.ac.ui.cs.advprog.event.dto.EventSummary(e.id, e.title, e.eventDate, e.location,"
+            + " e.basePrice, e.status)";
+
     List<Event> findByEventDate(LocalDateTime eventDate);
     List<Event> findByLocation(String location);
     List<Event> findByEventDateAfter(LocalDateTime now);
@@ -23,5 +42,153 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
     @Query("SELECT e FROM Event e WHERE e.status IN :status")
     List<Event> findByStatusIn(@Param("status") List<EventStatus> status);
     List<Event> findByUserId(UUID userId);
-   
-}
\ No newline at end of file
+
+    @Query("SELECT e.version FROM Event e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    // Keyset pages ordered by (event_date, id); pass PageRequest.of(0, n) so no OFFSET is ever emitted.
+    @Query("SELECT " + SUMMARY + " FROM Event e WHERE e.status IN :status ORDER BY e.eventDate, e.id")
+    List<EventSummary> findPageByStatusIn(@Param("status") List<EventStatus> statuses, Pageable pageable);
+
+    @Query("SELECT " + SUMMARY + " FROM Event e WHERE e.status IN :status"
+            + " AND (e.eventDate > :eventDate OR (e.eventDate = :eventDate AND e.id > :id))"
+            + " ORDER BY e.eventDate, e.id")
+    List<EventSummary> findPageByStatusInAfter(@Param("status") List<EventStatus> statuses,
+                                               @Param("eventDate") LocalDateTime eventDate,
+                                               @Param("id") UUID id,
+                                               Pageable pageable);
+
+    @Query("SELECT " + SUMMARY + " FROM Event e WHERE (e.userId = :userId OR e.status IN :status)"
+            + " ORDER BY e.eventDate, e.id")
+    List<EventSummary> findOwnOrPublishedPage(@Param("userId") UUID userId,
+                                              @Param("status") List<EventStatus> statuses,
+                                              Pageable pageable);
+
+    @Query("SELECT " + SUMMARY + " FROM Event e WHERE (e.userId = :userId OR e.status IN :status)"
+            + " AND (e.eventDate > :eventDate OR (e.eventDate = :eventDate AND e.id > :id))"
+            + " ORDER BY e.eventDate, e.id")
+    List<EventSummary> findOwnOrPublishedPageAfter(@Param("userId") UUID userId,
+                                                   @Param("status") List<EventStatus> statuses,
+                                                   @Param("eventDate") LocalDateTime eventDate,
+                                                   @Param("id") UUID id,
+                                                   Pageable pageable);
+
+    @Query("SELECT " + SUMMARY + " FROM Event e WHERE e.userId = :userId ORDER BY e.eventDate, e.id")
+    List<EventSummary> findPageByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT " + SUMMARY + " FROM Event e WHERE e.userId = :userId"
+            + " AND (e.eventDate > :eventDate OR (e.eventDate = :eventDate AND e.id > :id))"
+            + " ORDER BY e.eventDate, e.id")
+    List<EventSummary> findPageByUserIdAfter(@Param("userId") UUID userId,
+                                             @Param("eventDate") LocalDateTime eventDate,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
+
+    // Half-open [from, to) ranges served by idx_events_status_event_date.
+    @Query("SELECT " + SUMMARY + " FROM Event e WHERE e.status IN :status"
+            + " AND e.eventDate >= :from AND e.eventDate < :to"
+            + " ORDER BY e.eventDate, e.id")
+    List<EventSummary> findPageInRange(@Param("status") Collection<EventStatus> statuses,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       Pageable pageable);
+
+    @Query("SELECT " + SUMMARY + " FROM Event e WHERE e.status IN :status"
+            + " AND e.eventDate >= :from AND e.eventDate < :to"
+            + " AND (e.eventDate > :eventDate OR (e.eventDate = :eventDate AND e.id > :id))"
+            + " ORDER BY e.eventDate, e.id")
+    List<EventSummary> findPageInRangeAfter(@Param("status") Collection<EventStatus> statuses,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to,
+                                            @Param("eventDate") LocalDateTime eventDate,
+                                            @Param("id") UUID id,
+                                            Pageable pageable);
+
+    @Query("SELECT new id.ac.ui.cs.advprog.event.dto.CalendarDayCount(cast(e.eventDate as LocalDate), count(e))"
+            + " FROM Event e WHERE e.status IN :status AND e.eventDate >= :from AND e.eventDate < :to"
+            + " GROUP BY cast(e.eventDate as LocalDate) ORDER BY cast(e.eventDate as LocalDate)")
+    List<CalendarDayCount> countPerDay(@Param("status") Collection<EventStatus> statuses,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    // Price is grouped exactly and banded in Java, so PriceBand stays the only definition of the bands.
+    @Query("SELECT new id.ac.ui.cs.advprog.event.dto.FacetCell(e.location, year(e.eventDate), month(e.eventDate),"
+            + " e.basePrice, e.status, count(e))"
+            + " FROM Event e WHERE e.status IN :status"
+            + " GROUP BY e.location, year(e.eventDate), month(e.eventDate), e.basePrice, e.status")
+    List<FacetCell> countFacetCells(@Param("status") Collection<EventStatus> statuses);
+
+    // Bulk transitions lock their candidates first so the eligibility decided in Java is exactly what
+    // the following set-based UPDATE/DELETE matches.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.userId = :userId AND e.id IN :ids")
+    List<Event> lockOwnedByIds(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id IN :ids")
+    List<Event> lockByIds(@Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.userId = :userId AND e.eventDate >= :from AND e.eventDate < :to")
+    List<Event> lockOwnedInRange(@Param("userId") UUID userId,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Event e SET e.status = :status, e.version = e.version + 1, e.updatedAt = :now"
+            + " WHERE e.id IN :ids AND e.status IN :fromStatuses")
+    int transitionStatus(@Param("ids") Collection<UUID> ids,
+                         @Param("fromStatuses") Collection<EventStatus> fromStatuses,
+                         @Param("status") EventStatus status,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM Event e WHERE e.id IN :ids AND e.status = :status")
+    int deleteByIdsAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") EventStatus status);
+
+    // Export streams must be consumed inside a read-only transaction and closed by the caller.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e WHERE e.status IN :status"
+            + " AND e.eventDate >= :from AND e.eventDate < :to"
+            + " ORDER BY e.eventDate, e.id")
+    Stream<Event> streamForExport(@Param("status") Collection<EventStatus> statuses,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e WHERE e.userId = :userId AND e.status IN :status"
+            + " AND e.eventDate >= :from AND e.eventDate < :to"
+            + " ORDER BY e.eventDate, e.id")
+    Stream<Event> streamForExportByUserId(@Param("userId") UUID userId,
+                                          @Param("status") Collection<EventStatus> statuses,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    // Exports without a lower bound leave it out entirely rather than guessing a minimum date.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e WHERE e.status IN :status"
+            + " AND e.eventDate < :to"
+            + " ORDER BY e.eventDate, e.id")
+    Stream<Event> streamForExportUntil(@Param("status") Collection<EventStatus> statuses,
+                                       @Param("to") LocalDateTime to);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e WHERE e.userId = :userId AND e.status IN :status"
+            + " AND e.eventDate < :to"
+            + " ORDER BY e.eventDate, e.id")
+    Stream<Event> streamForExportByUserIdUntil(@Param("userId") UUID userId,
+                                               @Param("status") Collection<EventStatus> statuses,
+                                               @Param("to") LocalDateTime to);
+}
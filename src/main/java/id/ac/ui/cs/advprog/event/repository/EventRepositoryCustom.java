@@ -0,0 +1,33 @@
+package id.ac.ui.cs.advprog.event.repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventField;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+public interface EventRepositoryCustom {
+    List<Event> insertAll(List<Event> events);
+
+    // True when the database has the search_vector column and tsquery support (PostgreSQL).
+    boolean supportsFullTextSearch();
+
+    List<Event> searchRanked(String query, UUID userId, List<EventStatus> statuses, int offset, int limit);
+
+    // Specification queries projected to EventSummary, limited without OFFSET or a count query.
+    List<EventSummary> findSummaries(Specification<Event> spec, Sort sort, int limit);
+
+    // Selects only the requested columns (plus id, event_date and version, which paging and ETags need)
+    // and returns detached Events with just those properties set.
+    List<Event> findPartial(Specification<Event> spec, Set<EventField> fields, Sort sort, int limit);
+
+    // Streams every event id through the action. A deliberate full read, for rebuilding EventIdFilter.
+    void forEachId(Consumer<UUID> action);
+}
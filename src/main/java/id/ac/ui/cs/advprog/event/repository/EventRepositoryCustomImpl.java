@@ -0,0 +1,184 @@
+package id.ac.ui.cs.advprog.event.repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventField;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    // search_vector is not mapped on Event, so the entity columns are listed explicitly.
+    private static final String EVENT_COLUMNS = "e.id, e.title, e.description, e.event_date, e.location, "
+            + "e.base_price, e.status, e.user_id, e.version, e.updated_at";
+
+    private static final int ID_FETCH_SIZE = 5000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int batchSize = 100;
+
+    private volatile Boolean fullTextSearch;
+
+    // persist() instead of save() skips the merge/select path, and flushing every JDBC batch keeps the
+    // persistence context from growing with the import. Ids are UUIDs generated in memory, so nothing
+    // forces an early flush per row. The context is cleared, so callers must not rely on managed state.
+    @Override
+    @Transactional
+    public List<Event> insertAll(List<Event> events) {
+        for (int i = 0; i < events.size(); i++) {
+            entityManager.persist(events.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return events;
+    }
+
+    @Override
+    public boolean supportsFullTextSearch() {
+        Boolean supported = fullTextSearch;
+        if (supported == null) {
+            // Asks the driver rather than the configured dialect, which tests may leave as PostgreSQL on H2.
+            try (Connection connection = dataSource.getConnection()) {
+                supported = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            } catch (SQLException e) {
+                throw new DataAccessResourceFailureException("Could not detect database product", e);
+            }
+            fullTextSearch = supported;
+        }
+        return supported;
+    }
+
+    // Matches through the GIN index on search_vector and ranks with ts_rank_cd, so title hits outrank
+    // location hits, which outrank description hits. Visibility mirrors findOwnOrPublishedEvents.
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Event> searchRanked(String query, UUID userId, List<EventStatus> statuses, int offset, int limit) {
+        String visibility = userId == null
+                ? "e.status IN (:statuses)"
+                : "(e.user_id = :userId OR e.status IN (:statuses))";
+        Query search = entityManager.createNativeQuery(
+                "SELECT " + EVENT_COLUMNS + " FROM events e, websearch_to_tsquery('simple', :query) q"
+                        + " WHERE e.search_vector @@ q AND " + visibility
+                        + " ORDER BY ts_rank_cd(e.search_vector, q) DESC, e.event_date, e.id"
+                        + " LIMIT :limit OFFSET :offset", Event.class)
+                .setParameter("query", query)
+                .setParameter("statuses", statuses.stream().map(Enum::name).toList())
+                .setParameter("limit", limit)
+                .setParameter("offset", offset);
+        if (userId != null) {
+            search.setParameter("userId", userId);
+        }
+        return search.getResultList();
+    }
+
+    @Override
+    public List<EventSummary> findSummaries(Specification<Event> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(cb.construct(EventSummary.class, root.get("id"), root.get("title"), root.get("eventDate"),
+                root.get("location"), root.get("basePrice"), root.get("status")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Event> findPartial(Specification<Event> spec, Set<EventField> fields, Sort sort, int limit) {
+        Set<EventField> columns = EnumSet.of(EventField.ID, EventField.EVENT_DATE);
+        columns.addAll(fields);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (EventField column : columns) {
+            selections.add(root.get(column.getProperty()).alias(column.name()));
+        }
+        selections.add(root.get("version").alias("version"));
+        query.multiselect(selections);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        List<Tuple> rows = entityManager.createQuery(query).setMaxResults(limit).getResultList();
+        List<Event> events = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Event event = new Event();
+            event.setVersion(row.get("version", Long.class));
+            for (EventField column : columns) {
+                assign(event, column, row.get(column.name()));
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachId(Consumer<UUID> action) {
+        try (Stream<UUID> ids = entityManager.createQuery("SELECT e.id FROM Event e", UUID.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, ID_FETCH_SIZE)
+                .getResultStream()) {
+            ids.forEach(action);
+        }
+    }
+
+    private static void assign(Event event, EventField field, Object value) {
+        switch (field) {
+            case ID -> event.setId((UUID) value);
+            case TITLE -> event.setTitle((String) value);
+            case DESCRIPTION -> event.setDescription((String) value);
+            case EVENT_DATE -> event.setEventDate((LocalDateTime) value);
+            case LOCATION -> event.setLocation((String) value);
+            case BASE_PRICE -> event.setBasePrice((Double) value);
+            case STATUS -> event.setStatus((EventStatus) value);
+            case USER_ID -> event.setUserId((UUID) value);
+            case UPDATED_AT -> event.setUpdatedAt((LocalDateTime) value);
+        }
+    }
+}
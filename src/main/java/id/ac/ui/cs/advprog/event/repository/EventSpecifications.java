@@ -0,0 +1,93 @@
+package id.ac.ui.cs.advprog.event.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import id.ac.ui.cs.advprog.event.dto.EventCursor;
+import id.ac.ui.cs.advprog.event.dto.FilterCursor;
+import id.ac.ui.cs.advprog.event.enums.EventSort;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+// Composable predicates for EventRepository.findBy. Each one maps onto a column that leads one of the
+// composite indexes, so any combination EventFilterService accepts stays an index range scan.
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> statusIn(Collection<EventStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    // The requester's own events in any of the requested statuses, everyone else's only in public ones.
+    public static Specification<Event> visibleTo(UUID userId, Collection<EventStatus> ownStatuses,
+                                                 Collection<EventStatus> publicStatuses) {
+        if (userId == null || ownStatuses.isEmpty()) {
+            return statusIn(publicStatuses);
+        }
+        Specification<Event> own = (root, query, cb) -> cb.and(
+                cb.equal(root.get("userId"), userId), root.get("status").in(ownStatuses));
+        return publicStatuses.isEmpty() ? own : own.or(statusIn(publicStatuses));
+    }
+
+    public static Specification<Event> ownOrStatusIn(UUID userId, Collection<EventStatus> statuses) {
+        return (root, query, cb) -> cb.or(cb.equal(root.get("userId"), userId), root.get("status").in(statuses));
+    }
+
+    public static Specification<Event> ownedBy(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    public static Specification<Event> idIs(UUID id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<Event> locationIs(String location) {
+        return (root, query, cb) -> cb.equal(root.get("location"), location);
+    }
+
+    public static Specification<Event> priceAtLeast(double minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<Double>get("basePrice"), minPrice);
+    }
+
+    public static Specification<Event> priceAtMost(double maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.<Double>get("basePrice"), maxPrice);
+    }
+
+    public static Specification<Event> dateFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<LocalDateTime>get("eventDate"), from);
+    }
+
+    public static Specification<Event> dateBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.<LocalDateTime>get("eventDate"), to);
+    }
+
+    // Rows strictly after the cursor in (sort key, id) order, descending when requested.
+    public static Specification<Event> after(FilterCursor cursor, boolean descending) {
+        return (root, query, cb) -> cursor.sort() == EventSort.PRICE
+                ? seek(cb, root.<Double>get("basePrice"), cursor.basePrice(), root.<UUID>get("id"), cursor.id(), descending)
+                : seek(cb, root.<LocalDateTime>get("eventDate"), cursor.eventDate(), root.<UUID>get("id"), cursor.id(),
+                        descending);
+    }
+
+    // Catalog keyset position: rows after (event_date, id), ascending.
+    public static Specification<Event> after(EventCursor cursor) {
+        return (root, query, cb) -> seek(cb, root.<LocalDateTime>get("eventDate"), cursor.eventDate(),
+                root.<UUID>get("id"), cursor.id(), false);
+    }
+
+    private static <T extends Comparable<? super T>> Predicate seek(CriteriaBuilder cb, Path<T> key, T value,
+                                                                     Path<UUID> id, UUID lastId, boolean descending) {
+        if (descending) {
+            return cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(id, lastId)));
+        }
+        return cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(id, lastId)));
+    }
+}
@@ -0,0 +1,424 @@
+package id.ac.ui.cs.advprog.event.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import id.ac.ui.cs.advprog.event.dto.EventSearchHit;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.model.EventState;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// In-process inverted index over the title and location tokens of public events, for search-as-you-type.
+// Each event gets a dense int doc id; posting lists are sorted int arrays of doc ids, and per-document
+// fields live in parallel primitive arrays. Updates append a new doc id and tombstone the old one, so
+// posting lists stay sorted without re-sorting; the arrays are compacted once tombstones pile up.
+// Reads share a read lock and never touch the database. Changes that commit while a rebuild reads the
+// table are replayed onto the rebuilt index, so the read cannot overwrite them with older rows.
+@Component
+public class EventSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(EventSearchIndex.class);
+
+    private static final List<EventStatus> INDEXED_STATUSES = List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED);
+    private static final EventStatus[] STATUSES = EventStatus.values();
+    private static final int INITIAL_DOCS = 1024;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+    private static final String OR = "OR";
+
+    private final EventRepository eventRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Postings> postings = new HashMap<>();
+    private Map<UUID, Integer> docIds = new HashMap<>();
+    private long[] idHigh = new long[INITIAL_DOCS];
+    private long[] idLow = new long[INITIAL_DOCS];
+    private long[] eventDates = new long[INITIAL_DOCS];
+    private byte[] statuses = new byte[INITIAL_DOCS];
+    private String[] titles = new String[INITIAL_DOCS];
+    private String[] locations = new String[INITIAL_DOCS];
+    private BitSet live = new BitSet();
+    private int docCount;
+    private int tombstones;
+    private long liveStringBytes;
+    private long postingBytes;
+    private boolean rebuilding;
+    private final List<EventChangedEvent> changedDuringRebuild = new ArrayList<>();
+    private volatile long estimatedBytes;
+
+    public EventSearchIndex(EventRepository eventRepository, MeterRegistry registry) {
+        this.eventRepository = eventRepository;
+        Gauge.builder("search.index.memory", this, index -> index.estimatedBytes)
+                .description("Estimated heap held by the in-memory event search index")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("search.index.documents", this, EventSearchIndex::size)
+                .description("Live documents in the in-memory event search index")
+                .register(registry);
+        Gauge.builder("search.index.terms", this, index -> index.termCount())
+                .description("Distinct terms in the in-memory event search index")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<EventState> events;
+        try {
+            events = eventRepository.findByStatusIn(INDEXED_STATUSES).stream()
+                    .map(EventState::of)
+                    .toList();
+        } catch (RuntimeException e) {
+            // Failing here would fail startup; searches keep the current index until the next rebuild.
+            finishRebuild(null);
+            logger.warn("Event search index rebuild failed, keeping the current index", e);
+            return;
+        }
+        finishRebuild(events);
+        logger.info("Event search index built with {} events", events.size());
+    }
+
+    private void finishRebuild(List<EventState> events) {
+        lock.writeLock().lock();
+        try {
+            if (events != null) {
+                reset(Math.max(INITIAL_DOCS, events.size()));
+                events.forEach(this::addLocked);
+                changedDuringRebuild.forEach(this::applyLocked);
+                updateFootprintLocked();
+            }
+            changedDuringRebuild.clear();
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (!change.touchesPublic()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            applyLocked(change);
+            if (rebuilding) {
+                changedDuringRebuild.add(change);
+            }
+            updateFootprintLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(EventChangedEvent change) {
+        if (change.previous() != null) {
+            removeLocked(change.previous().id());
+        }
+        if (change.current() != null && change.current().isPublic()) {
+            addLocked(change.current());
+        }
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > docCount / 4) {
+            compactLocked();
+        }
+    }
+
+    // Whitespace-separated terms are ANDed; the literal word OR separates alternatives,
+    // e.g. "jazz jakarta OR jazz bandung". Hits come back soonest first.
+    public List<EventSearchHit> search(String query, Collection<EventStatus> statusFilter,
+                                       LocalDateTime from, LocalDateTime to, int limit) {
+        List<List<String>> groups = parse(query);
+        if (groups.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Set<EventStatus> allowed = statusFilter == null || statusFilter.isEmpty()
+                ? EnumSet.copyOf(INDEXED_STATUSES)
+                : EnumSet.copyOf(statusFilter);
+        long fromSecond = from == null ? Long.MIN_VALUE : toSecond(from);
+        long toSecond = to == null ? Long.MAX_VALUE : toSecond(to);
+
+        lock.readLock().lock();
+        try {
+            int[] matches = null;
+            for (List<String> group : groups) {
+                int[] groupMatches = intersect(group);
+                matches = matches == null ? groupMatches : union(matches, groupMatches);
+            }
+            List<Integer> hits = new ArrayList<>();
+            for (int doc : matches) {
+                if (live.get(doc) && allowed.contains(STATUSES[statuses[doc]])
+                        && eventDates[doc] >= fromSecond && eventDates[doc] < toSecond) {
+                    hits.add(doc);
+                }
+            }
+            hits.sort((a, b) -> Long.compare(eventDates[a], eventDates[b]));
+            List<EventSearchHit> result = new ArrayList<>(Math.min(limit, hits.size()));
+            for (int i = 0; i < hits.size() && i < limit; i++) {
+                result.add(hit(hits.get(i)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<List<String>> parse(String query) {
+        List<List<String>> groups = new ArrayList<>();
+        if (query == null) {
+            return groups;
+        }
+        List<String> current = new ArrayList<>();
+        for (String word : query.trim().split("\\s+")) {
+            if (OR.equals(word)) {
+                if (!current.isEmpty()) {
+                    groups.add(current);
+                }
+                current = new ArrayList<>();
+            } else {
+                current.addAll(SearchTokenizer.tokenize(word));
+            }
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private int[] intersect(List<String> terms) {
+        List<Postings> lists = new ArrayList<>(terms.size());
+        for (String term : new LinkedHashSet<>(terms)) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        // Smallest list first keeps every later step bounded by the rarest term.
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        int[] result = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+        int length = result.length;
+        for (int i = 1; i < lists.size() && length > 0; i++) {
+            Postings other = lists.get(i);
+            int kept = 0;
+            int j = 0;
+            for (int k = 0; k < length; k++) {
+                int doc = result[k];
+                j = lowerBound(other.docs, j, other.size, doc);
+                if (j < other.size && other.docs[j] == doc) {
+                    result[kept++] = doc;
+                }
+            }
+            length = kept;
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        int[] merged = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            int next;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            merged[n++] = next;
+        }
+        return Arrays.copyOf(merged, n);
+    }
+
+    // First index in [from, to) whose value is >= target; galloping keeps skips over long lists cheap.
+    private static int lowerBound(int[] docs, int from, int to, int target) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < to && docs[high] < target) {
+            low = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        high = Math.min(high, to);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (docs[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private EventSearchHit hit(int doc) {
+        return new EventSearchHit(new UUID(idHigh[doc], idLow[doc]), titles[doc], locations[doc],
+                LocalDateTime.ofEpochSecond(eventDates[doc], 0, ZoneOffset.UTC), STATUSES[statuses[doc]]);
+    }
+
+    private void addLocked(EventState event) {
+        if (event.id() == null || event.eventDate() == null) {
+            return;
+        }
+        removeLocked(event.id());
+        int doc = docCount++;
+        ensureCapacity(docCount);
+        idHigh[doc] = event.id().getMostSignificantBits();
+        idLow[doc] = event.id().getLeastSignificantBits();
+        eventDates[doc] = toSecond(event.eventDate());
+        statuses[doc] = (byte) event.status().ordinal();
+        titles[doc] = event.title();
+        locations[doc] = event.location();
+        live.set(doc);
+        docIds.put(event.id(), doc);
+        liveStringBytes += stringBytes(event.title()) + stringBytes(event.location());
+
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(event.title()));
+        terms.addAll(SearchTokenizer.tokenize(event.location()));
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                list = new Postings();
+                postings.put(term, list);
+                postingBytes += 48 + stringBytes(term) + 16 + 4L * list.docs.length;
+            }
+            int before = list.docs.length;
+            list.add(doc);
+            postingBytes += 4L * (list.docs.length - before);
+        }
+    }
+
+    private void removeLocked(UUID id) {
+        Integer doc = docIds.remove(id);
+        if (doc != null) {
+            live.clear(doc);
+            liveStringBytes -= stringBytes(titles[doc]) + stringBytes(locations[doc]);
+            titles[doc] = null;
+            locations[doc] = null;
+            tombstones++;
+        }
+    }
+
+    // Re-numbers live documents densely and drops dead entries from every posting list.
+    private void compactLocked() {
+        List<EventState> survivors = new ArrayList<>(docIds.size());
+        for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+            survivors.add(new EventState(new UUID(idHigh[doc], idLow[doc]), titles[doc], null,
+                    LocalDateTime.ofEpochSecond(eventDates[doc], 0, ZoneOffset.UTC), locations[doc], 0,
+                    STATUSES[statuses[doc]], null));
+        }
+        reset(Math.max(INITIAL_DOCS, survivors.size()));
+        survivors.forEach(this::addLocked);
+    }
+
+    private void reset(int capacity) {
+        postings = new HashMap<>();
+        docIds = new HashMap<>(capacity * 2);
+        idHigh = new long[capacity];
+        idLow = new long[capacity];
+        eventDates = new long[capacity];
+        statuses = new byte[capacity];
+        titles = new String[capacity];
+        locations = new String[capacity];
+        live = new BitSet(capacity);
+        docCount = 0;
+        tombstones = 0;
+        liveStringBytes = 0;
+        postingBytes = 0;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= idHigh.length) {
+            return;
+        }
+        int capacity = Math.max(required, idHigh.length + (idHigh.length >> 1));
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        eventDates = Arrays.copyOf(eventDates, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        locations = Arrays.copyOf(locations, capacity);
+    }
+
+    // Rough shallow+string estimate; good enough to watch growth and the effect of compaction. The string
+    // and posting totals are kept up to date by add/remove/reset, so this is constant time on every write.
+    private void updateFootprintLocked() {
+        estimatedBytes = (long) idHigh.length * (8 + 8 + 8 + 1 + 4 + 4) + live.size() / 8
+                + liveStringBytes
+                + (long) docIds.size() * 80
+                + postingBytes;
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+
+    private static long toSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        // Doc ids are handed out in increasing order, so appending keeps the list sorted.
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size << 1);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package id.ac.ui.cs.advprog.event.search;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import id.ac.ui.cs.advprog.event.dto.EventSuggestion;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.model.EventState;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+
+// Prefix autocomplete over public event titles and locations. Entries live in two sorted arrays, one by
+// key and one by event date, that readers search without locking; writers build new arrays (merge in,
+// filter out) and publish them together through a volatile field, which suits a read-heavy, write-rare
+// workload. Every word of a title starts its own entry, so "night" finds "Jazz Night" as well as
+// "Night Market". Changes that commit while a rebuild reads the table are replayed onto its result.
+@Component
+public class EventSuggestionIndex {
+    private static final Logger logger = LoggerFactory.getLogger(EventSuggestionIndex.class);
+
+    private static final List<EventStatus> INDEXED_STATUSES = List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED);
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TITLE_WORDS = 8;
+    // Prefixes matching more entries than this are answered by walking the date order instead.
+    private static final int MAX_SCAN = 2000;
+    private static final String TITLE = "title";
+    private static final String LOCATION = "location";
+
+    private record Entry(String key, String type, String text, UUID eventId, LocalDateTime eventDate) {
+    }
+
+    private record Entries(Entry[] byKey, Entry[] byDate) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key)
+            .thenComparing(Entry::type)
+            .thenComparing(Entry::eventId);
+
+    private static final Comparator<Entry> DATE_ORDER = Comparator.comparing(Entry::eventDate)
+            .thenComparing(ORDER);
+
+    private final EventRepository eventRepository;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<UUID, List<Entry>> entriesByEvent = new HashMap<>();
+    private final List<EventChangedEvent> changedDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile Entries entries = new Entries(new Entry[0], new Entry[0]);
+
+    public EventSuggestionIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        } finally {
+            writeLock.unlock();
+        }
+        List<EventState> events;
+        try {
+            events = eventRepository.findByStatusIn(INDEXED_STATUSES).stream()
+                    .map(EventState::of)
+                    .toList();
+        } catch (RuntimeException e) {
+            // Failing here would fail startup; suggestions keep the current entries until the next rebuild.
+            finishRebuild(null);
+            logger.warn("Event suggestion index rebuild failed, keeping the current entries", e);
+            return;
+        }
+        finishRebuild(events);
+    }
+
+    private void finishRebuild(List<EventState> events) {
+        writeLock.lock();
+        try {
+            if (events != null) {
+                entriesByEvent.clear();
+                List<Entry> all = new ArrayList<>();
+                for (EventState event : events) {
+                    List<Entry> eventEntries = entriesFor(event);
+                    entriesByEvent.put(event.id(), eventEntries);
+                    all.addAll(eventEntries);
+                }
+                Entry[] byKey = all.toArray(Entry[]::new);
+                Entry[] byDate = byKey.clone();
+                Arrays.sort(byKey, ORDER);
+                Arrays.sort(byDate, DATE_ORDER);
+                entries = new Entries(byKey, byDate);
+                changedDuringRebuild.forEach(this::applyLocked);
+            }
+            changedDuringRebuild.clear();
+            rebuilding = false;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (!change.touchesPublic()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            applyLocked(change);
+            if (rebuilding) {
+                changedDuringRebuild.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void applyLocked(EventChangedEvent change) {
+        Entry[] byKey = entries.byKey();
+        Entry[] byDate = entries.byDate();
+        List<Entry> removed = entriesByEvent.remove(change.id());
+        if (removed != null) {
+            byKey = without(byKey, change.id());
+            byDate = without(byDate, change.id());
+        }
+        EventState current = change.current();
+        if (current != null && current.isPublic()) {
+            List<Entry> added = entriesFor(current);
+            if (!added.isEmpty()) {
+                entriesByEvent.put(current.id(), added);
+                byKey = merged(byKey, added, ORDER);
+                List<Entry> addedByDate = new ArrayList<>(added);
+                addedByDate.sort(DATE_ORDER);
+                byDate = merged(byDate, addedByDate, DATE_ORDER);
+            }
+        }
+        entries = new Entries(byKey, byDate);
+    }
+
+    // Upcoming events rank first, soonest first; past (completed) events follow, most recent first.
+    public List<EventSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Entries snapshot = entries;
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Entry> best = new LinkedHashMap<>();
+        Entry[] byKey = snapshot.byKey();
+        int start = lowerBound(byKey, key);
+        int end = lowerBound(byKey, key + Character.MAX_VALUE);
+        if (end - start <= MAX_SCAN) {
+            for (int i = start; i < end; i++) {
+                keepBest(best, byKey[i], now);
+            }
+        } else {
+            // A popular prefix matches densely, so walking outward from now in date order reaches the
+            // best-ranked matches quickly: upcoming events soonest first, then past ones most recent first.
+            Entry[] byDate = snapshot.byDate();
+            int upcoming = firstOnOrAfter(byDate, now);
+            collect(best, byDate, upcoming, byDate.length, 1, key, limit, now);
+            if (best.size() < limit) {
+                collect(best, byDate, upcoming - 1, -1, -1, key, limit, now);
+            }
+        }
+        return best.values().stream()
+                .sorted(rank(now))
+                .limit(limit)
+                .map(entry -> TITLE.equals(entry.type())
+                        ? new EventSuggestion(entry.text(), TITLE, entry.eventId(), entry.eventDate())
+                        : new EventSuggestion(entry.text(), LOCATION, null, entry.eventDate()))
+                .toList();
+    }
+
+    public int size() {
+        return entries.byKey().length;
+    }
+
+    // Stops once limit suggestions are found and the entries sharing the last one's date are seen,
+    // since ties on date are ranked by text.
+    private static void collect(Map<String, Entry> best, Entry[] byDate, int from, int to, int step,
+                                String key, int limit, LocalDateTime now) {
+        LocalDateTime cutoff = null;
+        for (int i = from; i != to; i += step) {
+            Entry entry = byDate[i];
+            if (cutoff != null && !entry.eventDate().equals(cutoff)) {
+                return;
+            }
+            if (entry.key().startsWith(key)) {
+                keepBest(best, entry, now);
+                if (cutoff == null && best.size() >= limit) {
+                    cutoff = entry.eventDate();
+                }
+            }
+        }
+    }
+
+    // One suggestion per event title and per distinct location, keeping its best-ranked event.
+    private static void keepBest(Map<String, Entry> best, Entry entry, LocalDateTime now) {
+        String identity = TITLE.equals(entry.type()) ? entry.eventId().toString() : LOCATION + ":" + normalize(entry.text());
+        best.merge(identity, entry, (a, b) -> rank(now).compare(a, b) <= 0 ? a : b);
+    }
+
+    private static Comparator<Entry> rank(LocalDateTime now) {
+        return (a, b) -> {
+            boolean aUpcoming = !a.eventDate().isBefore(now);
+            boolean bUpcoming = !b.eventDate().isBefore(now);
+            if (aUpcoming != bUpcoming) {
+                return aUpcoming ? -1 : 1;
+            }
+            int byDate = aUpcoming ? a.eventDate().compareTo(b.eventDate()) : b.eventDate().compareTo(a.eventDate());
+            return byDate != 0 ? byDate : a.text().compareTo(b.text());
+        };
+    }
+
+    private static int lowerBound(Entry[] snapshot, String key) {
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid].key().compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int firstOnOrAfter(Entry[] byDate, LocalDateTime date) {
+        int low = 0;
+        int high = byDate.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byDate[mid].eventDate().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static List<Entry> entriesFor(EventState event) {
+        List<Entry> result = new ArrayList<>();
+        if (event.id() == null || event.eventDate() == null) {
+            return result;
+        }
+        String[] words = normalize(event.title()).split(" ");
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < words.length && i < MAX_TITLE_WORDS; i++) {
+            String suffix = String.join(" ", Arrays.copyOfRange(words, i, words.length));
+            if (!suffix.isEmpty() && seen.add(suffix)) {
+                result.add(new Entry(suffix, TITLE, event.title(), event.id(), event.eventDate()));
+            }
+        }
+        String location = normalize(event.location());
+        if (!location.isEmpty()) {
+            result.add(new Entry(location, LOCATION, event.location().trim(), event.id(), event.eventDate()));
+        }
+        result.sort(ORDER);
+        return result;
+    }
+
+    private static Entry[] merged(Entry[] existing, List<Entry> sortedAdditions, Comparator<Entry> order) {
+        Entry[] result = new Entry[existing.length + sortedAdditions.size()];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < existing.length || j < sortedAdditions.size()) {
+            if (j >= sortedAdditions.size()
+                    || (i < existing.length && order.compare(existing[i], sortedAdditions.get(j)) <= 0)) {
+                result[n++] = existing[i++];
+            } else {
+                result[n++] = sortedAdditions.get(j++);
+            }
+        }
+        return result;
+    }
+
+    private static Entry[] without(Entry[] existing, UUID eventId) {
+        return Arrays.stream(existing)
+                .filter(entry -> !entry.eventId().equals(eventId))
+                .toArray(Entry[]::new);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,21 @@
+package id.ac.ui.cs.advprog.event.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Lower-cases and splits on anything that is not a letter or digit, like Postgres' 'simple' config.
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
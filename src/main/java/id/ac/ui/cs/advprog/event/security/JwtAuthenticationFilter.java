@@ -1,6 +1,5 @@
  package id.ac.ui.cs.advprog.event.security;
 
- import io.jsonwebtoken.JwtException;
  import jakarta.servlet.FilterChain;
  import jakarta.servlet.ServletException;
  import jakarta.servlet.http.HttpServletRequest;
@@ -40,28 +39,18 @@
              String token = header.substring(7);
             
 
-             try {
-                 if (jwtTokenProvider.validateToken(token)) {
-                     String userId = jwtTokenProvider.getUserIdFromJWT(token);
-                     String role = jwtTokenProvider.getRoleFromJWT(token);
+             JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(token);
+             if (principal != null) {
+                 List<SimpleGrantedAuthority> authorities = principal.role() == null
+                         ? List.of()
+                         : List.of(new SimpleGrantedAuthority(principal.role()));
 
-                     
+                 UsernamePasswordAuthenticationToken auth =
+                         new UsernamePasswordAuthenticationToken(principal.subject(), null, authorities);
 
-
-                     List<SimpleGrantedAuthority> authorities =
-                             List.of(new SimpleGrantedAuthority(role));
-
-
-                     UsernamePasswordAuthenticationToken auth =
-                             new UsernamePasswordAuthenticationToken(userId, null, authorities);
-
-                     SecurityContextHolder.getContext().setAuthentication(auth);
-                    
-                 } else {
-                     logger.warn("JWT is invalid or expired.");
-                 }
-             } catch (JwtException ex) {
-                 logger.error("Error validating JWT token", ex);
+                 SecurityContextHolder.getContext().setAuthentication(auth);
+             } else {
+                 logger.warn("JWT is invalid or expired.");
              }
          } 
 
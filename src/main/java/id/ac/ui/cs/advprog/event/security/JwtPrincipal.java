@@ -0,0 +1,6 @@
+package id.ac.ui.cs.advprog.event.security;
+
+import java.time.Instant;
+
+public record JwtPrincipal(String subject, String role, Instant expiresAt) {
+}
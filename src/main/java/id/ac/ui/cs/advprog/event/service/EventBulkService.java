@@ -0,0 +1,174 @@
+package id.ac.ui.cs.advprog.event.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import id.ac.ui.cs.advprog.event.dto.BulkTransitionRequest;
+import id.ac.ui.cs.advprog.event.dto.BulkTransitionResult;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.model.EventState;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+
+@Service
+public class EventBulkService {
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBulkSize;
+
+    public EventBulkService(EventRepository eventRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${events.bulk.max-size:1000}") int maxBulkSize) {
+        this.eventRepository = eventRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxBulkSize = maxBulkSize;
+    }
+
+    // Applies the same rules as the single-event transitions in EventServiceImpl, restricted to the
+    // caller's own events. One locking SELECT plus one UPDATE per IN_CLAUSE_CHUNK eligible ids.
+    @Transactional
+    public BulkTransitionResult transition(UUID ownerId, BulkTransitionRequest request, EventStatus target) {
+        if (target != EventStatus.PUBLISHED && target != EventStatus.CANCELLED && target != EventStatus.COMPLETED) {
+            throw new IllegalArgumentException("Unsupported bulk transition to " + target);
+        }
+        Map<UUID, String> rejected = new LinkedHashMap<>();
+        List<Event> candidates = lockCandidates(ownerId, request, rejected);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Event> eligible = new ArrayList<>();
+        for (Event event : candidates) {
+            String reason = rejectionReason(event, target, now);
+            if (reason == null) {
+                eligible.add(event);
+            } else {
+                rejected.put(event.getId(), reason);
+            }
+        }
+
+        Set<EventStatus> fromStatuses = EnumSet.complementOf(EnumSet.of(target));
+        List<UUID> transitioned = ids(eligible);
+        for (List<UUID> chunk : chunks(transitioned)) {
+            eventRepository.transitionStatus(chunk, fromStatuses, target, now);
+        }
+        for (Event event : eligible) {
+            EventState previous = EventState.of(event);
+            eventPublisher.publishEvent(new EventChangedEvent(previous, previous.withStatus(target)));
+        }
+
+        return BulkTransitionResult.builder()
+                .status(target)
+                .transitioned(transitioned)
+                .rejected(rejected)
+                .build();
+    }
+
+    @Transactional
+    public BulkTransitionResult deleteDrafts(UUID ownerId, BulkTransitionRequest request) {
+        Map<UUID, String> rejected = new LinkedHashMap<>();
+        List<Event> candidates = lockCandidates(ownerId, request, rejected);
+
+        List<Event> drafts = new ArrayList<>();
+        for (Event event : candidates) {
+            if (event.getStatus() == EventStatus.DRAFT) {
+                drafts.add(event);
+            } else {
+                rejected.put(event.getId(), "Only draft events can be deleted in bulk");
+            }
+        }
+
+        List<UUID> deleted = ids(drafts);
+        for (List<UUID> chunk : chunks(deleted)) {
+            eventRepository.deleteByIdsAndStatus(chunk, EventStatus.DRAFT);
+        }
+        for (Event event : drafts) {
+            eventPublisher.publishEvent(new EventChangedEvent(EventState.of(event), null));
+        }
+
+        return BulkTransitionResult.builder()
+                .transitioned(deleted)
+                .rejected(rejected)
+                .build();
+    }
+
+    private List<Event> lockCandidates(UUID ownerId, BulkTransitionRequest request, Map<UUID, String> rejected) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean byRange = request.getFrom() != null || request.getTo() != null;
+        if (byIds == byRange) {
+            throw new IllegalArgumentException("Specify either ids or a from/to range");
+        }
+
+        if (byRange) {
+            if (request.getFrom() == null || request.getTo() == null || !request.getFrom().isBefore(request.getTo())) {
+                throw new IllegalArgumentException("'from' must be before 'to'");
+            }
+            List<Event> events = eventRepository.lockOwnedInRange(ownerId, request.getFrom(), request.getTo());
+            if (events.size() > maxBulkSize) {
+                throw new IllegalArgumentException("Range matches more than " + maxBulkSize + " events");
+            }
+            return events;
+        }
+
+        Set<UUID> requested = new LinkedHashSet<>(request.getIds());
+        requested.remove(null);
+        if (requested.size() > maxBulkSize) {
+            throw new IllegalArgumentException("Bulk request cannot contain more than " + maxBulkSize + " ids");
+        }
+        List<Event> events = new ArrayList<>(requested.size());
+        for (List<UUID> chunk : chunks(new ArrayList<>(requested))) {
+            events.addAll(eventRepository.lockOwnedByIds(ownerId, chunk));
+        }
+        Set<UUID> found = new LinkedHashSet<>(ids(events));
+        for (UUID id : requested) {
+            if (!found.contains(id)) {
+                rejected.put(id, "Event not found");
+            }
+        }
+        return events;
+    }
+
+    private String rejectionReason(Event event, EventStatus target, LocalDateTime now) {
+        if (event.getStatus() == target) {
+            return "Event is already " + target;
+        }
+        if (target == EventStatus.PUBLISHED) {
+            if (event.getEventDate().isBefore(now)) {
+                return "Cannot publish event with a past date";
+            }
+            if (event.getEventDate().isBefore(now.plusMonths(3))) {
+                return "Event must be scheduled at least 3 months from now to be published";
+            }
+        }
+        return null;
+    }
+
+    private static List<UUID> ids(List<Event> events) {
+        List<UUID> ids = new ArrayList<>(events.size());
+        for (Event event : events) {
+            ids.add(event.getId());
+        }
+        return ids;
+    }
+
+    private static List<List<UUID>> chunks(List<UUID> ids) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += IN_CLAUSE_CHUNK) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + IN_CLAUSE_CHUNK)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,162 @@
+package id.ac.ui.cs.advprog.event.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import id.ac.ui.cs.advprog.event.dto.EventExportFilter;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.enums.ExportFormat;
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+
+@Service
+public class EventExportService {
+    private static final List<EventStatus> PUBLIC_STATUSES = List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String CSV_HEADER = "id,title,description,event_date,location,base_price,status,user_id";
+    private static final int FLUSH_EVERY = 500;
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter eventWriter;
+
+    public EventExportService(EventRepository eventRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.eventWriter = objectMapper.writerFor(Event.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(EventExportFilter filter, UUID requesterId, ExportFormat format, OutputStream out) throws IOException {
+        LocalDateTime from = filter.from();
+        LocalDateTime to = filter.to() == null ? LATEST : filter.to();
+        if (from != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        List<EventStatus> statuses = visibleStatuses(filter, requesterId);
+
+        if (format == ExportFormat.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            if (!statuses.isEmpty()) {
+                try (Stream<Event> rows = openStream(filter.organizerId(), statuses, from, to)) {
+                    writeCsv(rows.iterator(), writer);
+                }
+            }
+            writer.flush();
+        } else {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            if (!statuses.isEmpty()) {
+                try (Stream<Event> rows = openStream(filter.organizerId(), statuses, from, to)) {
+                    writeNdjson(rows.iterator(), generator);
+                }
+            }
+            generator.flush();
+        }
+    }
+
+    // Only the organizer exporting their own events may see non-public statuses.
+    List<EventStatus> visibleStatuses(EventExportFilter filter, UUID requesterId) {
+        List<EventStatus> requested = filter.statuses() == null || filter.statuses().isEmpty()
+                ? Arrays.asList(EventStatus.values())
+                : filter.statuses();
+        boolean ownExport = filter.organizerId() != null && filter.organizerId().equals(requesterId);
+        List<EventStatus> visible = new ArrayList<>();
+        for (EventStatus status : requested) {
+            if ((ownExport || PUBLIC_STATUSES.contains(status)) && !visible.contains(status)) {
+                visible.add(status);
+            }
+        }
+        return visible;
+    }
+
+    private Stream<Event> openStream(UUID organizerId, List<EventStatus> statuses, LocalDateTime from, LocalDateTime to) {
+        if (from == null) {
+            return organizerId == null
+                    ? eventRepository.streamForExportUntil(statuses, to)
+                    : eventRepository.streamForExportByUserIdUntil(organizerId, statuses, to);
+        }
+        return organizerId == null
+                ? eventRepository.streamForExport(statuses, from, to)
+                : eventRepository.streamForExportByUserId(organizerId, statuses, from, to);
+    }
+
+    private void writeNdjson(Iterator<Event> rows, JsonGenerator generator) throws IOException {
+        long count = 0;
+        while (rows.hasNext()) {
+            Event event = rows.next();
+            eventWriter.writeValue(generator, event);
+            generator.writeRaw('\n');
+            entityManager.detach(event);
+            if (++count == 1 || count % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<Event> rows, Writer writer) throws IOException {
+        long count = 0;
+        while (rows.hasNext()) {
+            Event event = rows.next();
+            writer.write(String.valueOf(event.getId()));
+            writer.write(',');
+            writer.write(csv(event.getTitle()));
+            writer.write(',');
+            writer.write(csv(event.getDescription()));
+            writer.write(',');
+            writer.write(event.getEventDate() == null ? "" : event.getEventDate().format(DATE_FORMAT));
+            writer.write(',');
+            writer.write(csv(event.getLocation()));
+            writer.write(',');
+            // Plain notation: String.valueOf gives 1.0E7 for large prices, which spreadsheets misread.
+            writer.write(BigDecimal.valueOf(event.getBasePrice()).toPlainString());
+            writer.write(',');
+            writer.write(event.getStatus() == null ? "" : event.getStatus().name());
+            writer.write(',');
+            writer.write(event.getUserId() == null ? "" : event.getUserId().toString());
+            writer.write('\n');
+            entityManager.detach(event);
+            if (++count == 1 || count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
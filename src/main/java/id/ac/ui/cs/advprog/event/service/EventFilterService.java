@@ -0,0 +1,145 @@
+package id.ac.ui.cs.advprog.event.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventFilter;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.dto.FilterCursor;
+import id.ac.ui.cs.advprog.event.enums.EventSort;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+import id.ac.ui.cs.advprog.event.repository.EventSpecifications;
+
+@Service
+public class EventFilterService {
+
+    private static final List<EventStatus> PUBLIC_STATUSES = List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED);
+
+    private final EventRepository eventRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxRangeDays;
+
+    public EventFilterService(EventRepository eventRepository,
+                              @Value("${events.filter.default-size:50}") int defaultPageSize,
+                              @Value("${events.filter.max-size:100}") int maxPageSize,
+                              @Value("${events.filter.max-range-days:366}") int maxRangeDays) {
+        this.eventRepository = eventRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    // Keyset-paged like the catalog: no OFFSET and no count query, the page is read in index order
+    // and the extra row only tells whether there is a next page.
+    public CursorPage<EventSummary> filter(EventFilter filter, UUID requesterId, String cursor, Integer limit) {
+        validate(filter);
+        rejectFullScan(filter);
+        FilterCursor after = FilterCursor.decode(cursor);
+        if (after != null && after.sort() != filter.sort()) {
+            throw new IllegalArgumentException("Cursor does not belong to this sort order");
+        }
+        int pageSize = resolvePageSize(limit);
+
+        List<EventStatus> requested = filter.statuses() == null || filter.statuses().isEmpty()
+                ? Arrays.asList(EventStatus.values())
+                : filter.statuses();
+        List<EventStatus> publicRequested = new ArrayList<>();
+        for (EventStatus status : requested) {
+            if (PUBLIC_STATUSES.contains(status) && !publicRequested.contains(status)) {
+                publicRequested.add(status);
+            }
+        }
+        if (requesterId == null && publicRequested.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        Specification<Event> spec = EventSpecifications.visibleTo(requesterId, requested, publicRequested);
+        if (filter.location() != null) {
+            spec = spec.and(EventSpecifications.locationIs(filter.location()));
+        }
+        if (filter.minPrice() != null) {
+            spec = spec.and(EventSpecifications.priceAtLeast(filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            spec = spec.and(EventSpecifications.priceAtMost(filter.maxPrice()));
+        }
+        if (filter.from() != null) {
+            spec = spec.and(EventSpecifications.dateFrom(filter.from()));
+        }
+        if (filter.to() != null) {
+            spec = spec.and(EventSpecifications.dateBefore(filter.to()));
+        }
+        if (after != null) {
+            spec = spec.and(EventSpecifications.after(after, filter.descending()));
+        }
+
+        Sort sort = Sort.by(filter.descending() ? Sort.Direction.DESC : Sort.Direction.ASC,
+                filter.sort().getProperty(), "id");
+        List<EventSummary> rows = eventRepository.findSummaries(spec, sort, pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = FilterCursor.of(filter.sort(), rows.get(pageSize - 1)).encode();
+        }
+        return new CursorPage<>(new ArrayList<>(rows), nextCursor);
+    }
+
+    private static void validate(EventFilter filter) {
+        if (filter.sort() == null) {
+            throw new IllegalArgumentException("sort is required");
+        }
+        if (filter.minPrice() != null && filter.minPrice() < 0) {
+            throw new IllegalArgumentException("min_price must not be negative");
+        }
+        if (filter.minPrice() != null && filter.maxPrice() != null && filter.minPrice() > filter.maxPrice()) {
+            throw new IllegalArgumentException("min_price must not exceed max_price");
+        }
+        if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+    }
+
+    // The page is read by walking (status, event_date) or (status, base_price) in sort order. A range on
+    // the other column cannot narrow that walk, so on its own it may read most of the table before a page
+    // fills. It is accepted only when something else bounds the rows: a location, which has its own index,
+    // or a closed date range short enough that sorting its matches is cheap.
+    void rejectFullScan(EventFilter filter) {
+        boolean crossRange = filter.sort() == EventSort.DATE
+                ? filter.minPrice() != null || filter.maxPrice() != null
+                : filter.from() != null || filter.to() != null;
+        if (!crossRange || filter.location() != null || isBoundedDateRange(filter)) {
+            return;
+        }
+        throw new IllegalArgumentException(filter.sort() == EventSort.DATE
+                ? "Price filters sorted by date need a location or a 'from'/'to' range of at most " + maxRangeDays + " days"
+                : "Date filters sorted by price need a location or a 'from'/'to' range of at most " + maxRangeDays + " days");
+    }
+
+    private boolean isBoundedDateRange(EventFilter filter) {
+        return filter.from() != null && filter.to() != null
+                && Duration.between(filter.from(), filter.to()).toDays() <= maxRangeDays;
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+}
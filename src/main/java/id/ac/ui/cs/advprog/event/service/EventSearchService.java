@@ -0,0 +1,150 @@
+package id.ac.ui.cs.advprog.event.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+import id.ac.ui.cs.advprog.event.search.SearchTokenizer;
+
+@Service
+public class EventSearchService {
+
+    private static final List<EventStatus> PUBLIC_STATUSES = List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED);
+    private static final int MAX_QUERY_LENGTH = 200;
+    // Relevance order cannot be keyset-paged, so the cursor is an offset and deep pages are refused.
+    private static final int MAX_OFFSET = 1000;
+    private static final double TITLE_WEIGHT = 1.0;
+    private static final double LOCATION_WEIGHT = 0.4;
+    private static final double DESCRIPTION_WEIGHT = 0.2;
+
+    private final EventRepository eventRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public EventSearchService(EventRepository eventRepository,
+                              @Value("${events.search.default-size:20}") int defaultPageSize,
+                              @Value("${events.search.max-size:100}") int maxPageSize) {
+        this.eventRepository = eventRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public CursorPage<EventSummary> search(String query, UUID userId, String cursor, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        int pageSize = resolvePageSize(limit);
+        int offset = decodeOffset(cursor);
+
+        List<Event> rows = eventRepository.supportsFullTextSearch()
+                ? eventRepository.searchRanked(query.trim(), userId, PUBLIC_STATUSES, offset, pageSize + 1)
+                : searchInProcess(query, userId, offset, pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = encodeOffset(offset + pageSize);
+        }
+        return new CursorPage<>(rows.stream().map(EventSummary::of).toList(), nextCursor);
+    }
+
+    // Fallback for databases without tsvector (H2 in tests). Same semantics as websearch_to_tsquery
+    // over the 'simple' config: every term must appear as a whole token, and title matches weigh
+    // more than location, which weighs more than description.
+    private List<Event> searchInProcess(String query, UUID userId, int offset, int limit) {
+        List<String> terms = SearchTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        List<Event> candidates = userId == null
+                ? eventRepository.findByStatusIn(PUBLIC_STATUSES)
+                : eventRepository.findOwnOrPublishedEvents(userId, PUBLIC_STATUSES);
+
+        record Scored(Event event, double score) {
+        }
+        return candidates.stream()
+                .map(event -> new Scored(event, score(event, terms)))
+                .filter(scored -> scored.score() > 0)
+                .sorted(Comparator.comparingDouble(Scored::score).reversed()
+                        .thenComparing(scored -> scored.event().getEventDate(), Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(scored -> scored.event().getId(), Comparator.nullsLast(Comparator.naturalOrder())))
+                .skip(offset)
+                .limit(limit)
+                .map(Scored::event)
+                .toList();
+    }
+
+    private static double score(Event event, List<String> terms) {
+        List<String> title = SearchTokenizer.tokenize(event.getTitle());
+        List<String> location = SearchTokenizer.tokenize(event.getLocation());
+        List<String> description = SearchTokenizer.tokenize(event.getDescription());
+        double score = 0;
+        for (String term : terms) {
+            double termScore = TITLE_WEIGHT * occurrences(title, term)
+                    + LOCATION_WEIGHT * occurrences(location, term)
+                    + DESCRIPTION_WEIGHT * occurrences(description, term);
+            if (termScore == 0) {
+                return 0;
+            }
+            score += termScore;
+        }
+        return score;
+    }
+
+    private static int occurrences(List<String> tokens, String term) {
+        int count = 0;
+        for (String token : tokens) {
+            if (token.equals(term)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    private static String encodeOffset(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("o" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith("o")) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            int offset = Integer.parseInt(raw.substring(1));
+            if (offset < 0 || offset > MAX_OFFSET) {
+                throw new IllegalArgumentException("Search results are limited to the first " + MAX_OFFSET + " matches");
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
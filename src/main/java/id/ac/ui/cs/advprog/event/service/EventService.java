@@ -1,27 +1,54 @@
 package id.ac.ui.cs.advprog.event.service;
 
+import id.ac.ui.cs.advprog.event.dto.BatchCreateResponse;
+import id.ac.ui.cs.advprog.event.dto.CalendarDayCount;
 import id.ac.ui.cs.advprog.event.dto.CreateEventDTO;
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventCursor;
+import id.ac.ui.cs.advprog.event.dto.EventLookupResponse;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
 import id.ac.ui.cs.advprog.event.dto.ResponseDTO;
 import id.ac.ui.cs.advprog.event.dto.UpdateEventDTO;
+import id.ac.ui.cs.advprog.event.enums.EventField;
 import id.ac.ui.cs.advprog.event.enums.EventStatus;
 import id.ac.ui.cs.advprog.event.model.Event;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 public interface  EventService {
     UpdateEventDTO updateEvent(UUID id, UpdateEventDTO updateEventDTO);
+    UpdateEventDTO updateEvent(UUID id, UpdateEventDTO updateEventDTO, Long expectedVersion);
     void deleteEvent(UUID id);
-    List<Event> getEventByDate(LocalDate date);
+    List<EventSummary> getEventByDate(LocalDate date);
     List<Event> listEvents(UUID userId);
     Event createEvent(CreateEventDTO dto,UUID userId);
+    BatchCreateResponse createEvents(List<CreateEventDTO> dtos, UUID userId);
     ResponseDTO<EventStatus> cancelEvent(UUID id);
+    ResponseDTO<EventStatus> cancelEvent(UUID id, Long expectedVersion);
     CompletableFuture<ResponseDTO<EventStatus>> publishEvent(UUID id);
+    CompletableFuture<ResponseDTO<EventStatus>> publishEvent(UUID id, Long expectedVersion);
+    Map<UUID, ResponseDTO<EventStatus>> publishEvents(Map<UUID, Long> expectedVersions);
     ResponseDTO<EventStatus> completeEvent(UUID id);
+    ResponseDTO<EventStatus> completeEvent(UUID id, Long expectedVersion);
     Event getEvent(UUID id);
+    EventLookupResponse getEvents(List<UUID> ids);
+    long getEventVersion(UUID id);
     List<Event> listEventsByOrganizer(UUID organizerId);
+    CursorPage<EventSummary> listEvents(UUID userId, EventCursor after, Integer limit);
+    CursorPage<EventSummary> getEventByDate(LocalDate date, EventCursor after, Integer limit);
+    CursorPage<EventSummary> listEventsByOrganizer(UUID organizerId, EventCursor after, Integer limit);
+    CursorPage<EventSummary> listEventsInRange(LocalDateTime from, LocalDateTime to, List<EventStatus> statuses,
+                                               EventCursor after, Integer limit);
+    List<CalendarDayCount> getCalendar(LocalDate from, LocalDate to, List<EventStatus> statuses);
+    Event getEvent(UUID id, Set<EventField> fields);
+    CursorPage<Event> listEvents(UUID userId, Set<EventField> fields, EventCursor after, Integer limit);
+    CursorPage<Event> listEventsByOrganizer(UUID organizerId, Set<EventField> fields, EventCursor after, Integer limit);
 
 
 
@@ -2,28 +2,87 @@ package id.ac.ui.cs.advprog.event.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import id.ac.ui.cs.advprog.event.cache.EventCache;
+import id.ac.ui.cs.advprog.event.cache.EventIdFilter;
+import id.ac.ui.cs.advprog.event.dto.BatchCreateResponse;
+import id.ac.ui.cs.advprog.event.dto.BatchItemResult;
+import id.ac.ui.cs.advprog.event.dto.CalendarDayCount;
 import id.ac.ui.cs.advprog.event.dto.CreateEventDTO;
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventCursor;
+import id.ac.ui.cs.advprog.event.dto.EventLookupResponse;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
 import id.ac.ui.cs.advprog.event.dto.ResponseDTO;
 import id.ac.ui.cs.advprog.event.dto.UpdateEventDTO;
+import id.ac.ui.cs.advprog.event.enums.EventField;
 import id.ac.ui.cs.advprog.event.enums.EventStatus;
 import id.ac.ui.cs.advprog.event.exception.EventNotFoundException;
+import id.ac.ui.cs.advprog.event.exception.PreconditionFailedException;
 import id.ac.ui.cs.advprog.event.model.Event;
 import id.ac.ui.cs.advprog.event.model.EventBuilder;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.model.EventState;
 import id.ac.ui.cs.advprog.event.repository.EventRepository;
+import id.ac.ui.cs.advprog.event.repository.EventSpecifications;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
 public class EventServiceImpl implements EventService {
+    private static final List<EventStatus> PUBLIC_STATUSES = List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED);
+    private static final Sort KEYSET_ORDER = Sort.by("eventDate", "id");
+    private static final long MAX_CALENDAR_DAYS = 366;
+
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private EventCache eventCache;
+
+    @Autowired
+    private EventIdFilter eventIdFilter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${events.pagination.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${events.pagination.max-size:200}")
+    private int maxPageSize = 200;
+
+    @Value("${events.batch.max-size:10000}")
+    private int maxBatchSize = 10000;
+
+    @Value("${events.lookup.max-size:500}")
+    private int maxLookupSize = 500;
+
 
     @Override
     public Event createEvent(CreateEventDTO dto,UUID userId) {
@@ -42,20 +101,92 @@ public class EventServiceImpl implements EventService {
                 .build();
 
 
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        eventPublisher.publishEvent(new EventChangedEvent(null, EventState.of(saved)));
+        return saved;
+    }
+
+
+    // Every item is validated before anything is written; valid items are inserted together in one
+    // transaction and invalid ones are reported by their position in the request.
+    @Override
+    @Transactional
+    public BatchCreateResponse createEvents(List<CreateEventDTO> dtos, UUID userId) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one event");
+        }
+        if (dtos.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + maxBatchSize + " events");
+        }
+
+        BatchItemResult[] results = new BatchItemResult[dtos.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Event> accepted = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            List<String> errors = validate(dtos.get(i));
+            if (!errors.isEmpty()) {
+                results[i] = BatchItemResult.builder().index(i).success(false).errors(errors).build();
+                continue;
+            }
+            CreateEventDTO dto = dtos.get(i);
+            accepted.add(new EventBuilder()
+                    .setTitle(dto.getTitle())
+                    .setDescription(dto.getDescription())
+                    .setEventDate(dto.getEventDate())
+                    .setLocation(dto.getLocation())
+                    .setBasePrice(dto.getBasePrice())
+                    .setUserId(userId)
+                    .build());
+            acceptedIndexes.add(i);
+        }
+
+        if (!accepted.isEmpty()) {
+            eventRepository.insertAll(accepted);
+        }
+        for (int j = 0; j < accepted.size(); j++) {
+            Event event = accepted.get(j);
+            int index = acceptedIndexes.get(j);
+            results[index] = BatchItemResult.builder().index(index).success(true).id(event.getId()).build();
+            eventPublisher.publishEvent(new EventChangedEvent(null, EventState.of(event)));
+        }
+
+        return BatchCreateResponse.builder()
+                .created(accepted.size())
+                .failed(dtos.size() - accepted.size())
+                .results(Arrays.asList(results))
+                .build();
     }
 
+    private List<String> validate(CreateEventDTO dto) {
+        if (dto == null) {
+            return List.of("Event cannot be null");
+        }
+        Set<ConstraintViolation<CreateEventDTO>> violations = validator.validate(dto);
+        List<String> errors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<CreateEventDTO> violation : violations) {
+            errors.add(violation.getMessage());
+        }
+        errors.sort(null);
+        return errors;
+    }
 
     @Override
     public UpdateEventDTO updateEvent(UUID id, UpdateEventDTO dto) {
+        return updateEvent(id, dto, null);
+    }
+
+    @Override
+    public UpdateEventDTO updateEvent(UUID id, UpdateEventDTO dto, Long expectedVersion) {
 
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EventNotFoundException("Event not found"));
+        checkVersion(event, expectedVersion);
        
         if (event.getStatus() == EventStatus.PUBLISHED) {
 
             throw new IllegalArgumentException("Published event restriction cannot be updated");
         }
+        EventState previous = EventState.of(event);
         event.setTitle(dto.getTitle());
         event.setDescription(dto.getDescription());
         event.setEventDate(dto.getEventDate());
@@ -63,6 +194,7 @@ public class EventServiceImpl implements EventService {
         event.setBasePrice(dto.getBasePrice());
 
         eventRepository.save(event);
+        eventPublisher.publishEvent(new EventChangedEvent(previous, EventState.of(event)));
         return dto;
     }
 
@@ -75,14 +207,15 @@ public class EventServiceImpl implements EventService {
         }
         else{
             eventRepository.delete(event);
+            eventPublisher.publishEvent(new EventChangedEvent(EventState.of(event), null));
         }
 
     }
 
     @Override
-    public List<Event> getEventByDate(LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        return eventRepository.findByEventDate(startOfDay);
+    public List<EventSummary> getEventByDate(LocalDate date) {
+        return eventRepository.findPageInRange(PUBLIC_STATUSES, date.atStartOfDay(),
+                date.plusDays(1).atStartOfDay(), Pageable.unpaged());
     }
 
     @Override
@@ -100,52 +233,180 @@ public class EventServiceImpl implements EventService {
 
     @Override
     public ResponseDTO<EventStatus> cancelEvent(UUID id) {
+        return cancelEvent(id, null);
+    }
+
+    @Override
+    public ResponseDTO<EventStatus> cancelEvent(UUID id, Long expectedVersion) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EventNotFoundException("Event not found"));
+        checkVersion(event, expectedVersion);
 
         return changeStatus(event, EventStatus.CANCELLED);
     }
 
 
     @Override
-    @Async
     public CompletableFuture<ResponseDTO<EventStatus>> publishEvent(UUID id) {
+        return publishEvent(id, null);
+    }
+
+    // Runs on the caller's thread; PublishJobQueue already executes it off the request path.
+    @Override
+    public CompletableFuture<ResponseDTO<EventStatus>> publishEvent(UUID id, Long expectedVersion) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EventNotFoundException("Event not found"));
+        checkVersion(event, expectedVersion);
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime eventDate = event.getEventDate();
-
-        if (eventDate.isBefore(now)) {
-            return CompletableFuture.completedFuture(
-                    new ResponseDTO<>(false, "Cannot publish event with a past date", null)
-            );
-        }
-
-        if (eventDate.isBefore(now.plusMonths(3))) {
-            return CompletableFuture.completedFuture(
-                    new ResponseDTO<>(false, "Event must be scheduled at least 3 months from now to be published", null)
-            );
+        ResponseDTO<EventStatus> rejection = publishRejection(event, LocalDateTime.now());
+        if (rejection != null) {
+            return CompletableFuture.completedFuture(rejection);
         }
 
         ResponseDTO<EventStatus> result = changeStatus(event, EventStatus.PUBLISHED);
         return CompletableFuture.completedFuture(result);
     }
 
+    // A batch of queued publishes in one transaction: one locking SELECT and one UPDATE, with the same
+    // checks as publishEvent. Outcomes are returned per event id instead of thrown, so one missing or
+    // modified event does not fail the rest.
+    @Override
+    @Transactional
+    public Map<UUID, ResponseDTO<EventStatus>> publishEvents(Map<UUID, Long> expectedVersions) {
+        Map<UUID, ResponseDTO<EventStatus>> results = new HashMap<>();
+        if (expectedVersions.isEmpty()) {
+            return results;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Event> transitioned = new ArrayList<>();
+        for (Event event : eventRepository.lockByIds(expectedVersions.keySet())) {
+            Long expectedVersion = expectedVersions.get(event.getId());
+            ResponseDTO<EventStatus> rejection = expectedVersion != null && event.getVersion() != expectedVersion
+                    ? new ResponseDTO<>(false, "Event has been modified", null)
+                    : publishRejection(event, now);
+            if (rejection != null) {
+                results.put(event.getId(), rejection);
+                continue;
+            }
+            if (event.getStatus() != EventStatus.PUBLISHED) {
+                transitioned.add(event);
+            }
+            results.put(event.getId(), ResponseDTO.<EventStatus>builder()
+                    .success(true)
+                    .message("Event status changed to " + EventStatus.PUBLISHED)
+                    .data(EventStatus.PUBLISHED)
+                    .build());
+        }
+        if (!transitioned.isEmpty()) {
+            List<UUID> ids = transitioned.stream().map(Event::getId).toList();
+            eventRepository.transitionStatus(ids, EnumSet.complementOf(EnumSet.of(EventStatus.PUBLISHED)),
+                    EventStatus.PUBLISHED, now);
+            for (Event event : transitioned) {
+                EventState previous = EventState.of(event);
+                eventPublisher.publishEvent(new EventChangedEvent(previous, previous.withStatus(EventStatus.PUBLISHED)));
+            }
+        }
+        for (UUID id : expectedVersions.keySet()) {
+            results.putIfAbsent(id, new ResponseDTO<>(false, "Event not found", null));
+        }
+        return results;
+    }
+
+    private static ResponseDTO<EventStatus> publishRejection(Event event, LocalDateTime now) {
+        if (event.getEventDate().isBefore(now)) {
+            return new ResponseDTO<>(false, "Cannot publish event with a past date", null);
+        }
+        if (event.getEventDate().isBefore(now.plusMonths(3))) {
+            return new ResponseDTO<>(false, "Event must be scheduled at least 3 months from now to be published", null);
+        }
+        return null;
+    }
+
     @Override
     public ResponseDTO<EventStatus> completeEvent(UUID id) {
+        return completeEvent(id, null);
+    }
+
+    @Override
+    public ResponseDTO<EventStatus> completeEvent(UUID id, Long expectedVersion) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EventNotFoundException("Event not found"));
+        checkVersion(event, expectedVersion);
         return changeStatus(event, EventStatus.COMPLETED);
     }
     @Override
     public Event getEvent(UUID id) {
-        return eventRepository.findById(id).orElseThrow(() -> new EventNotFoundException("Event not found"));
+        requireKnownId(id);
+        return eventCache.get(id, key -> eventRepository.findById(key)
+                .orElseThrow(() -> new EventNotFoundException("Event not found")));
+    }
+    // Cached events are served as-is and the rest are loaded with one findAllById. Unknown ids are
+    // reported rather than thrown, and a repeated id is answered once, at its first position.
+    @Override
+    public EventLookupResponse getEvents(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Lookup must contain at least one id");
+        }
+        if (ids.size() > maxLookupSize) {
+            throw new IllegalArgumentException("Lookup cannot contain more than " + maxLookupSize + " ids");
+        }
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        if (requested.contains(null)) {
+            throw new IllegalArgumentException("Lookup ids cannot be null");
+        }
+        Map<UUID, Event> found = eventCache.getAll(requested, misses -> {
+            Map<UUID, Event> loaded = new HashMap<>();
+            for (Event event : eventRepository.findAllById(List.copyOf(misses))) {
+                loaded.put(event.getId(), event);
+                eventIdFilter.add(event.getId());
+            }
+            return loaded;
+        });
+
+        List<Event> events = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : requested) {
+            Event event = found.get(id);
+            if (event != null) {
+                events.add(event);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new EventLookupResponse(events, missing);
+    }
+
+    @Override
+    public long getEventVersion(UUID id) {
+        requireKnownId(id);
+        Event cached = eventCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return eventRepository.findVersionById(id)
+                .orElseThrow(() -> new EventNotFoundException("Event not found"));
+    }
+
+    // A negative filter answer is trusted so unknown ids never reach the database; events created on
+    // another instance become visible here with the next periodic filter rebuild.
+    private void requireKnownId(UUID id) {
+        if (!eventIdFilter.mightContain(id)) {
+            throw new EventNotFoundException("Event not found");
+        }
+    }
+
+    // Fails fast on a stale If-Match; a write racing past this check is still caught by @Version on save.
+    private void checkVersion(Event event, Long expectedVersion) {
+        if (expectedVersion != null && event.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException("Event has been modified");
+        }
     }
-    private ResponseDTO<EventStatus> changeStatus(Event event, EventStatus status) {
 
+    private ResponseDTO<EventStatus> changeStatus(Event event, EventStatus status) {
+        EventState previous = EventState.of(event);
         event.setStatus(status);
         eventRepository.save(event);
+        eventPublisher.publishEvent(new EventChangedEvent(previous, EventState.of(event)));
         return ResponseDTO.<EventStatus>builder()
                 .success(true)
                 .message("Event status changed to " + status)
@@ -157,5 +418,143 @@ public class EventServiceImpl implements EventService {
         return eventRepository.findByUserId(organizerId);
     } 
 
+    @Override
+    public CursorPage<EventSummary> listEvents(UUID userId, EventCursor after, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        List<EventSummary> rows;
+        if (userId == null) {
+            rows = after == null
+                    ? eventRepository.findPageByStatusIn(PUBLIC_STATUSES, fetch)
+                    : eventRepository.findPageByStatusInAfter(PUBLIC_STATUSES, after.eventDate(), after.id(), fetch);
+        } else {
+            rows = after == null
+                    ? eventRepository.findOwnOrPublishedPage(userId, PUBLIC_STATUSES, fetch)
+                    : eventRepository.findOwnOrPublishedPageAfter(userId, PUBLIC_STATUSES, after.eventDate(), after.id(), fetch);
+        }
+        return toPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPage<EventSummary> getEventByDate(LocalDate date, EventCursor after, Integer limit) {
+        return listEventsInRange(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), null, after, limit);
+    }
+
+    @Override
+    public CursorPage<EventSummary> listEventsInRange(LocalDateTime from, LocalDateTime to, List<EventStatus> statuses,
+                                                      EventCursor after, Integer limit) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        int pageSize = resolvePageSize(limit);
+        List<EventStatus> visible = visibleStatuses(statuses);
+        if (visible.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        List<EventSummary> rows = after == null
+                ? eventRepository.findPageInRange(visible, from, to, fetch)
+                : eventRepository.findPageInRangeAfter(visible, from, to, after.eventDate(), after.id(), fetch);
+        return toPage(rows, pageSize);
+    }
+
+    @Override
+    public List<CalendarDayCount> getCalendar(LocalDate from, LocalDate to, List<EventStatus> statuses) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("Calendar range cannot exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+        List<EventStatus> visible = visibleStatuses(statuses);
+        if (visible.isEmpty()) {
+            return List.of();
+        }
+        return eventRepository.countPerDay(visible, from.atStartOfDay(), to.atStartOfDay());
+    }
+
+    // Range and calendar views are public, so a status filter can only narrow the public statuses.
+    private List<EventStatus> visibleStatuses(List<EventStatus> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return PUBLIC_STATUSES;
+        }
+        List<EventStatus> visible = new ArrayList<>();
+        for (EventStatus status : PUBLIC_STATUSES) {
+            if (requested.contains(status)) {
+                visible.add(status);
+            }
+        }
+        return visible;
+    }
+
+    @Override
+    public CursorPage<EventSummary> listEventsByOrganizer(UUID organizerId, EventCursor after, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        List<EventSummary> rows = after == null
+                ? eventRepository.findPageByUserId(organizerId, fetch)
+                : eventRepository.findPageByUserIdAfter(organizerId, after.eventDate(), after.id(), fetch);
+        return toPage(rows, pageSize);
+    }
+
+    // Sparse fieldsets: the same visibility and keyset order as the full listings, but only the
+    // requested columns are read, so wide columns like description stay on disk when unused.
+    @Override
+    public Event getEvent(UUID id, Set<EventField> fields) {
+        requireKnownId(id);
+        List<Event> rows = eventRepository.findPartial(EventSpecifications.idIs(id), fields, Sort.unsorted(), 1);
+        if (rows.isEmpty()) {
+            throw new EventNotFoundException("Event not found");
+        }
+        return rows.get(0);
+    }
+
+    @Override
+    public CursorPage<Event> listEvents(UUID userId, Set<EventField> fields, EventCursor after, Integer limit) {
+        Specification<Event> visible = userId == null
+                ? EventSpecifications.statusIn(PUBLIC_STATUSES)
+                : EventSpecifications.ownOrStatusIn(userId, PUBLIC_STATUSES);
+        return findPartialPage(visible, fields, after, limit);
+    }
+
+    @Override
+    public CursorPage<Event> listEventsByOrganizer(UUID organizerId, Set<EventField> fields, EventCursor after,
+                                                   Integer limit) {
+        return findPartialPage(EventSpecifications.ownedBy(organizerId), fields, after, limit);
+    }
+
+    private CursorPage<Event> findPartialPage(Specification<Event> spec, Set<EventField> fields, EventCursor after,
+                                              Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        if (after != null) {
+            spec = spec.and(EventSpecifications.after(after));
+        }
+        List<Event> rows = eventRepository.findPartial(spec, fields, KEYSET_ORDER, pageSize + 1);
+        return toPage(rows, pageSize, event -> new EventCursor(event.getEventDate(), event.getId()));
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    // Rows are fetched with one extra element; its presence is what tells us another page exists.
+    private CursorPage<EventSummary> toPage(List<EventSummary> rows, int pageSize) {
+        return toPage(rows, pageSize, last -> new EventCursor(last.getEventDate(), last.getId()));
+    }
+
+    private <T> CursorPage<T> toPage(List<T> rows, int pageSize, Function<T, EventCursor> position) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, pageSize));
+        return new CursorPage<>(items, position.apply(items.get(pageSize - 1)).encode());
+    }
+
 
 }
@@ -0,0 +1,228 @@
+package id.ac.ui.cs.advprog.event.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import id.ac.ui.cs.advprog.event.config.TaskMetricsDecorator;
+
+import id.ac.ui.cs.advprog.event.dto.PublishJob;
+import id.ac.ui.cs.advprog.event.dto.ResponseDTO;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.enums.PublishJobStatus;
+import id.ac.ui.cs.advprog.event.exception.EventNotFoundException;
+import id.ac.ui.cs.advprog.event.exception.PreconditionFailedException;
+import id.ac.ui.cs.advprog.event.exception.QueueFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Publish requests are accepted into a bounded queue and drained in batches on the asyncExecutor.
+// When the queue is full, submit() fails immediately instead of blocking the request thread, and
+// at most maxInFlightBatches batches run at once, so a publish storm cannot take over the executor.
+// Each batch is applied by EventService.publishEvents in one transaction.
+@Service
+public class PublishJobQueue {
+    private static final Logger logger = LoggerFactory.getLogger(PublishJobQueue.class);
+
+    private final EventService eventService;
+    private final Executor executor;
+    private final BlockingQueue<PublishJob> queue;
+    private final Cache<UUID, PublishJob> jobs;
+    private final Semaphore inFlightBatches;
+    private final int batchSize;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public PublishJobQueue(EventService eventService,
+                           @Qualifier("asyncExecutor") Executor executor,
+                           @Value("${events.publish.queue-capacity:1000}") int queueCapacity,
+                           @Value("${events.publish.batch-size:50}") int batchSize,
+                           @Value("${events.publish.max-in-flight-batches:4}") int maxInFlightBatches,
+                           @Value("${events.publish.job-ttl-seconds:3600}") long jobTtlSeconds,
+                           @Value("${events.publish.max-jobs:100000}") long maxJobs,
+                           @Value("${events.publish.retry-after-seconds:5}") long retryAfterSeconds,
+                           MeterRegistry registry) {
+        this.eventService = eventService;
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        // Sized well above the queue capacity, so only finished jobs are evicted during a storm.
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(maxJobs)
+                .expireAfterWrite(Duration.ofSeconds(jobTtlSeconds))
+                .build();
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
+        this.batchSize = batchSize;
+        this.retryAfterSeconds = retryAfterSeconds;
+        Gauge.builder("publish.queue.depth", queue, BlockingQueue::size)
+                .description("Publish jobs waiting to be dispatched")
+                .register(registry);
+        this.rejected = Counter.builder("publish.queue.rejected")
+                .description("Publish requests turned away with 429 because the queue was full")
+                .register(registry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        dispatcher = Thread.ofPlatform().daemon().name("publish-dispatcher").start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    public PublishJob submit(UUID eventId, Long expectedVersion, String requestedBy) {
+        PublishJob job = PublishJob.builder()
+                .id(UUID.randomUUID())
+                .eventId(eventId)
+                .status(PublishJobStatus.QUEUED)
+                .submittedAt(LocalDateTime.now())
+                .expectedVersion(expectedVersion)
+                .requestedBy(requestedBy)
+                .build();
+        jobs.put(job.getId(), job);
+        if (!queue.offer(job)) {
+            jobs.invalidate(job.getId());
+            rejected.increment();
+            throw new QueueFullException("Publish queue is full, please retry later", retryAfterSeconds);
+        }
+        return job;
+    }
+
+    // Jobs are only visible to the organizer who submitted them.
+    public Optional<PublishJob> find(UUID jobId, String requestedBy) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId))
+                .filter(job -> job.getRequestedBy() == null || job.getRequestedBy().equals(requestedBy));
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                List<PublishJob> batch = new ArrayList<>(batchSize);
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                inFlightBatches.acquire();
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void dispatch(List<PublishJob> batch) {
+        try {
+            executor.execute(TaskMetricsDecorator.typed("publishEvent", () -> {
+                try {
+                    process(batch);
+                } finally {
+                    inFlightBatches.release();
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            // The executor is saturated: run the batch here, which also stops the dispatcher pulling more work.
+            try {
+                process(batch);
+            } finally {
+                inFlightBatches.release();
+            }
+        }
+    }
+
+    // A second job for an event already in the batch runs on its own afterwards, as it would have if
+    // it had been queued in the next batch.
+    private void process(List<PublishJob> batch) {
+        Map<UUID, Long> expectedVersions = new LinkedHashMap<>();
+        List<PublishJob> batched = new ArrayList<>(batch.size());
+        List<PublishJob> repeats = new ArrayList<>();
+        for (PublishJob job : batch) {
+            jobs.put(job.getId(), job.toBuilder().status(PublishJobStatus.RUNNING).build());
+            if (expectedVersions.containsKey(job.getEventId())) {
+                repeats.add(job);
+            } else {
+                expectedVersions.put(job.getEventId(), job.getExpectedVersion());
+                batched.add(job);
+            }
+        }
+        Map<UUID, ResponseDTO<EventStatus>> results;
+        try {
+            results = eventService.publishEvents(expectedVersions);
+        } catch (RuntimeException e) {
+            // The whole transaction failed; retrying job by job keeps one bad event from failing the others.
+            logger.warn("Publish batch of {} jobs failed, retrying them one by one", batch.size(), e);
+            batch.forEach(job -> jobs.put(job.getId(), run(job)));
+            return;
+        }
+        for (PublishJob job : batched) {
+            jobs.put(job.getId(), finished(job, results.get(job.getEventId())));
+        }
+        repeats.forEach(job -> jobs.put(job.getId(), run(job)));
+    }
+
+    private PublishJob run(PublishJob job) {
+        try {
+            return finished(job, eventService.publishEvent(job.getEventId(), job.getExpectedVersion()).join());
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            return job.toBuilder()
+                    .completedAt(LocalDateTime.now())
+                    .status(PublishJobStatus.FAILED)
+                    .message(failureMessage(job, cause))
+                    .build();
+        }
+    }
+
+    private static PublishJob finished(PublishJob job, ResponseDTO<EventStatus> result) {
+        return job.toBuilder()
+                .completedAt(LocalDateTime.now())
+                .status(result.isSuccess() ? PublishJobStatus.SUCCEEDED : PublishJobStatus.FAILED)
+                .message(result.getMessage())
+                .eventStatus(result.getData())
+                .build();
+    }
+
+    private static String failureMessage(PublishJob job, Throwable cause) {
+        if (cause instanceof EventNotFoundException || cause instanceof PreconditionFailedException) {
+            return cause.getMessage();
+        }
+        if (cause instanceof OptimisticLockingFailureException) {
+            return "Event was modified concurrently";
+        }
+        logger.error("Publish job {} for event {} failed", job.getId(), job.getEventId(), cause);
+        return "An unexpected error occurred";
+    }
+}
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS events (
+    id          UUID             NOT NULL PRIMARY KEY,
+    title       VARCHAR(255)     NOT NULL,
+    description CHARACTER LARGE OBJECT,
+    event_date  TIMESTAMP(6)     NOT NULL,
+    location    VARCHAR(255)     NOT NULL,
+    base_price  DOUBLE PRECISION NOT NULL,
+    status      VARCHAR(20)      NOT NULL,
+    user_id     UUID             NOT NULL,
+    version     BIGINT           DEFAULT 0 NOT NULL,
+    updated_at  TIMESTAMP(6)
+);
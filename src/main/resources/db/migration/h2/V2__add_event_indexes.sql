@@ -0,0 +1,5 @@
+-- Mirrors the PostgreSQL migration; H2 has no partial indexes, so the public-status index is omitted.
+CREATE INDEX IF NOT EXISTS idx_events_event_date_id ON events (event_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_user_id_event_date_id ON events (user_id, event_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_status_event_date ON events (status, event_date);
+CREATE INDEX IF NOT EXISTS idx_events_location ON events (location);
@@ -0,0 +1,3 @@
+-- Mirrors the PostgreSQL V5 migration.
+CREATE INDEX IF NOT EXISTS idx_events_status_base_price_id ON events (status, base_price, id);
+CREATE INDEX IF NOT EXISTS idx_events_location_event_date_id ON events (location, event_date, id);
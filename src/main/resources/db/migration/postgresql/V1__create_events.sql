@@ -0,0 +1,17 @@
+-- Databases created earlier by ddl-auto=update already have this table; baseline-version=0 lets this
+-- script run against them too, so every statement is idempotent.
+CREATE TABLE IF NOT EXISTS events (
+    id          UUID             NOT NULL PRIMARY KEY,
+    title       VARCHAR(255)     NOT NULL,
+    description TEXT,
+    event_date  TIMESTAMP(6)     NOT NULL,
+    location    VARCHAR(255)     NOT NULL,
+    base_price  DOUBLE PRECISION NOT NULL,
+    status      VARCHAR(20)      NOT NULL,
+    user_id     UUID             NOT NULL,
+    version     BIGINT           NOT NULL DEFAULT 0,
+    updated_at  TIMESTAMP(6)
+);
+
+ALTER TABLE events ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
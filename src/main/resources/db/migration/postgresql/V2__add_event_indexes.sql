@@ -0,0 +1,16 @@
+-- CONCURRENTLY keeps writes flowing while the indexes build; Flyway runs these outside a transaction.
+
+-- Keyset pages and date ranges: ORDER BY event_date, id.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_event_date_id ON events (event_date, id);
+
+-- findByUserId, organizer pages and the user_id branch of findOwnOrPublishedEvents.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_user_id_event_date_id ON events (user_id, event_date, id);
+
+-- Status filters combined with date ranges, calendar counts and exports.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_status_event_date ON events (status, event_date);
+
+-- The anonymous catalog and the status branch of findOwnOrPublishedEvents only ever read public rows.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_public_event_date_id ON events (event_date, id)
+    WHERE status IN ('PUBLISHED', 'COMPLETED');
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_location ON events (location);
@@ -0,0 +1,8 @@
+-- Full-text search over title (A), location (B) and description (C). 'simple' keeps tokens unstemmed,
+-- which suits the mixed Indonesian/English catalog and matches the in-process fallback used on H2.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(location, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+    ) STORED;
@@ -0,0 +1,2 @@
+-- Kept apart from V3: CONCURRENTLY cannot share a migration with transactional DDL.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector);
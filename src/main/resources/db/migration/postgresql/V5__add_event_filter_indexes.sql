@@ -0,0 +1,7 @@
+-- Filtered search (EventFilterService) walks one of these in sort order and stops after a page.
+
+-- Price filters and ORDER BY base_price, id within the visible statuses.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_status_base_price_id ON events (status, base_price, id);
+
+-- A location pins the search to one venue, ordered by date.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_location_event_date_id ON events (location, event_date, id);
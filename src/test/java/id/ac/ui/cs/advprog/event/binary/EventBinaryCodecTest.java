@@ -0,0 +1,101 @@
+package id.ac.ui.cs.advprog.event.binary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+class EventBinaryCodecTest {
+
+    @Test
+    void event_roundTripsAtMillisecondPrecision() {
+        Event event = event("Jazz Night Caf\u00e9", LocalDateTime.of(2030, 1, 2, 19, 30, 5, 123_456_789));
+        event.setVersion(7);
+        event.setUpdatedAt(LocalDateTime.of(1969, 12, 31, 23, 59, 59));
+
+        Event decoded = EventBinaryCodec.decodeEvent(EventBinaryCodec.encode(event));
+
+        assertThat(decoded).usingRecursiveComparison().ignoringFields("eventDate").isEqualTo(event);
+        assertThat(decoded.getEventDate()).isEqualTo(LocalDateTime.of(2030, 1, 2, 19, 30, 5, 123_000_000));
+    }
+
+    @Test
+    void event_keepsNullFieldsNull() {
+        Event event = new Event();
+        event.setStatus(null);
+
+        Event decoded = EventBinaryCodec.decodeEvent(EventBinaryCodec.encode(event));
+
+        assertThat(decoded.getId()).isNull();
+        assertThat(decoded.getTitle()).isNull();
+        assertThat(decoded.getEventDate()).isNull();
+        assertThat(decoded.getStatus()).isNull();
+        assertThat(decoded.getUserId()).isNull();
+    }
+
+    @Test
+    void summaries_roundTripEveryStatus() {
+        List<EventSummary> summaries = new ArrayList<>();
+        for (EventStatus status : EventStatus.values()) {
+            Event event = event("Event " + status, LocalDateTime.of(2030, 3, 1, 10, 0));
+            event.setStatus(status);
+            summaries.add(EventSummary.of(event));
+        }
+        summaries.add(new EventSummary());
+
+        assertThat(EventBinaryCodec.decodeSummaries(EventBinaryCodec.encode(summaries))).isEqualTo(summaries);
+        assertThat(EventBinaryCodec.decodeSummaries(EventBinaryCodec.encode(List.of()))).isEmpty();
+    }
+
+    @Test
+    void summaries_areSmallerThanJson() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<EventSummary> summaries = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            summaries.add(EventSummary.of(event("Event " + i, LocalDateTime.of(2030, 1, 1, 19, 0).plusDays(i))));
+        }
+
+        int json = objectMapper.writeValueAsBytes(summaries).length;
+        int binary = EventBinaryCodec.encode(summaries).length;
+
+        assertThat(binary).isLessThan(json / 2);
+    }
+
+    @Test
+    void decode_rejectsWrongKindAndTruncatedPayloads() {
+        byte[] event = EventBinaryCodec.encode(event("Concert", LocalDateTime.of(2030, 1, 1, 0, 0)));
+        byte[] truncated = Arrays.copyOf(event, event.length - 3);
+        byte[] hugeCount = {EventBinaryCodec.FORMAT_VERSION, EventBinaryCodec.KIND_SUMMARIES, (byte) 0xFF, 0x7F};
+
+        assertThrows(IllegalArgumentException.class, () -> EventBinaryCodec.decodeSummaries(event));
+        assertThrows(IllegalArgumentException.class, () -> EventBinaryCodec.decodeEvent(truncated));
+        assertThrows(IllegalArgumentException.class, () -> EventBinaryCodec.decodeSummaries(hugeCount));
+        assertThrows(IllegalArgumentException.class, () -> EventBinaryCodec.decodeEvent(new byte[] {2, 1}));
+    }
+
+    private static Event event(String title, LocalDateTime eventDate) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle(title);
+        event.setDescription("Live music");
+        event.setEventDate(eventDate);
+        event.setLocation("Jakarta");
+        event.setBasePrice(150000.5);
+        event.setStatus(EventStatus.PUBLISHED);
+        event.setUserId(UUID.randomUUID());
+        return event;
+    }
+}
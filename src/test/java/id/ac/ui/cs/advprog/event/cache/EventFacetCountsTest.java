@@ -0,0 +1,114 @@
+package id.ac.ui.cs.advprog.event.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import id.ac.ui.cs.advprog.event.dto.EventFacets;
+import id.ac.ui.cs.advprog.event.dto.FacetCell;
+import id.ac.ui.cs.advprog.event.dto.FacetValue;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.model.EventState;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+
+class EventFacetCountsTest {
+
+    private EventRepository eventRepository;
+    private EventFacetCounts facetCounts;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        facetCounts = new EventFacetCounts(eventRepository, 50);
+        when(eventRepository.countFacetCells(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED))).thenReturn(List.of(
+                new FacetCell("Jakarta", 2030, 1, 50000.0, EventStatus.PUBLISHED, 2L),
+                new FacetCell("Jakarta", 2030, 2, 0.0, EventStatus.COMPLETED, 1L),
+                new FacetCell("Depok", 2030, 1, 750000.0, EventStatus.PUBLISHED, 4L)));
+    }
+
+    @Test
+    void current_foldsCellsIntoFacetsWithOneQuery() {
+        EventFacets facets = facetCounts.current();
+        facetCounts.current();
+
+        assertEquals(List.of(new FacetValue("Depok", 4), new FacetValue("Jakarta", 3)), facets.getLocation());
+        assertEquals(List.of(new FacetValue("2030-01", 6), new FacetValue("2030-02", 1)), facets.getMonth());
+        assertEquals(List.of(new FacetValue("FREE", 1), new FacetValue("UNDER_100K", 2), new FacetValue("FROM_500K_TO_1M", 4)),
+                facets.getPriceBand());
+        assertEquals(List.of(new FacetValue("PUBLISHED", 6), new FacetValue("COMPLETED", 1)), facets.getStatus());
+        verify(eventRepository, times(1)).countFacetCells(any());
+    }
+
+    @Test
+    void onEventChanged_adjustsCountsWithoutQuerying() {
+        facetCounts.current();
+        EventState published = new EventState(UUID.randomUUID(), "Jazz", null, LocalDateTime.of(2030, 3, 5, 19, 0),
+                "Bandung", 150000, EventStatus.PUBLISHED, UUID.randomUUID());
+
+        facetCounts.onEventChanged(new EventChangedEvent(null, published));
+        facetCounts.onEventChanged(new EventChangedEvent(published, published.withStatus(EventStatus.CANCELLED)));
+        EventState depok = new EventState(UUID.randomUUID(), "Seminar", null, LocalDateTime.of(2030, 1, 9, 9, 0),
+                "Depok", 750000, EventStatus.PUBLISHED, UUID.randomUUID());
+        facetCounts.onEventChanged(new EventChangedEvent(depok, depok.withStatus(EventStatus.COMPLETED)));
+
+        EventFacets facets = facetCounts.current();
+        assertEquals(List.of(new FacetValue("Depok", 4), new FacetValue("Jakarta", 3)), facets.getLocation());
+        assertEquals(List.of(new FacetValue("PUBLISHED", 5), new FacetValue("COMPLETED", 2)), facets.getStatus());
+        verify(eventRepository, times(1)).countFacetCells(any());
+    }
+
+    @Test
+    void onEventChanged_beforeFirstLoadIsLeftToTheLoad() {
+        EventState published = new EventState(UUID.randomUUID(), "Jazz", null, LocalDateTime.of(2030, 3, 5, 19, 0),
+                "Bandung", 150000, EventStatus.PUBLISHED, UUID.randomUUID());
+        facetCounts.onEventChanged(new EventChangedEvent(null, published));
+
+        assertEquals(2, facetCounts.current().getLocation().size());
+    }
+
+    @Test
+    void onEventChanged_committedDuringReloadIsCountedOnce() throws Exception {
+        facetCounts.current();
+        EventState published = new EventState(UUID.randomUUID(), "Jazz", null, LocalDateTime.of(2030, 3, 5, 19, 0),
+                "Bandung", 150000, EventStatus.PUBLISHED, UUID.randomUUID());
+        List<FacetCell> withChange = List.of(new FacetCell("Bandung", 2030, 3, 150000.0, EventStatus.PUBLISHED, 1L));
+        Thread listener = new Thread(() -> facetCounts.onEventChanged(new EventChangedEvent(null, published)));
+        when(eventRepository.countFacetCells(any()))
+                .thenAnswer(invocation -> {
+                    // The change commits mid-query; its listener then waits for the reload to finish.
+                    listener.start();
+                    while (listener.getState() != Thread.State.WAITING) {
+                        Thread.onSpinWait();
+                    }
+                    return List.of();
+                })
+                .thenReturn(withChange);
+
+        facetCounts.reload();
+        listener.join();
+
+        assertEquals(List.of(new FacetValue("Bandung", 1)), facetCounts.current().getLocation());
+    }
+
+    @Test
+    void reload_replacesIncrementalState() {
+        facetCounts.current();
+        when(eventRepository.countFacetCells(any())).thenReturn(List.of(
+                new FacetCell("Bogor", 2031, 6, 10.0, EventStatus.PUBLISHED, 1L)));
+
+        facetCounts.reload();
+
+        assertEquals(List.of(new FacetValue("Bogor", 1)), facetCounts.current().getLocation());
+    }
+}
@@ -0,0 +1,126 @@
+package id.ac.ui.cs.advprog.event.cache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.model.EventState;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+
+class EventIdFilterTest {
+
+    private EventRepository eventRepository;
+    private EventIdFilter filter;
+    private List<UUID> stored;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        filter = new EventIdFilter(eventRepository, 10_000, 0.01);
+        stored = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            stored.add(UUID.randomUUID());
+        }
+        when(eventRepository.count()).thenReturn((long) stored.size());
+    }
+
+    @Test
+    void everyIdMightExistUntilTheFirstBuild() {
+        assertTrue(filter.mightContain(UUID.randomUUID()));
+    }
+
+    @Test
+    void rebuildKnowsEveryStoredIdAndRejectsMostOthers() {
+        stubIds(ids -> stored.forEach(ids));
+
+        filter.rebuild();
+
+        assertTrue(stored.stream().allMatch(filter::mightContain));
+        long falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void createdEventsAreAddedButUpdatesAreIgnored() {
+        stubIds(ids -> stored.forEach(ids));
+        filter.rebuild();
+        UUID created = UUID.randomUUID();
+        UUID updated = UUID.randomUUID();
+
+        filter.onEventChanged(new EventChangedEvent(null, state(created)));
+        filter.onEventChanged(new EventChangedEvent(state(updated), state(updated)));
+
+        assertTrue(filter.mightContain(created));
+        assertFalse(filter.mightContain(updated));
+    }
+
+    @Test
+    void idsCreatedDuringRebuildSurviveTheSwap() {
+        UUID createdMidRebuild = UUID.randomUUID();
+        stubIds(ids -> {
+            stored.forEach(ids);
+            filter.onEventChanged(new EventChangedEvent(null, state(createdMidRebuild)));
+        });
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContain(createdMidRebuild));
+    }
+
+    @Test
+    void failedRebuildKeepsThePreviousFilter() {
+        stubIds(ids -> stored.forEach(ids));
+        filter.rebuild();
+        stubIds(ids -> {
+            ids.accept(stored.get(0));
+            throw new IllegalStateException("connection reset");
+        });
+
+        filter.rebuild();
+
+        assertTrue(stored.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    void failedFirstBuildStillTreatsEveryIdAsPossible() {
+        stubIds(ids -> {
+            throw new IllegalStateException("connection reset");
+        });
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContain(UUID.randomUUID()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubIds(Consumer<Consumer<UUID>> source) {
+        doAnswer(invocation -> {
+            source.accept(invocation.getArgument(0, Consumer.class));
+            return null;
+        }).when(eventRepository).forEachId(any());
+    }
+
+    private static EventState state(UUID id) {
+        return new EventState(id, "Concert", null, LocalDateTime.of(2030, 1, 1, 19, 0), "Jakarta", 0.0,
+                EventStatus.DRAFT, UUID.randomUUID());
+    }
+}
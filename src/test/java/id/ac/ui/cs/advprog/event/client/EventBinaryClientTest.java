@@ -0,0 +1,104 @@
+package id.ac.ui.cs.advprog.event.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import id.ac.ui.cs.advprog.event.binary.EventBinaryCodec;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+class EventBinaryClientTest {
+
+    private HttpServer server;
+    private EventBinaryClient client;
+    private final AtomicReference<String> acceptSeen = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.start();
+        client = new EventBinaryClient(HttpClient.newHttpClient(),
+                URI.create("http://127.0.0.1:" + server.getAddress().getPort()), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void getEvent_decodesBinaryBody() throws Exception {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle("Concert");
+        event.setEventDate(LocalDateTime.of(2030, 1, 2, 19, 30));
+        event.setBasePrice(150000.0);
+        event.setStatus(EventStatus.PUBLISHED);
+        server.createContext("/api/events/" + event.getId(),
+                exchange -> respond(exchange, 200, EventBinaryCodec.MEDIA_TYPE, EventBinaryCodec.encode(event)));
+
+        Optional<Event> found = client.getEvent(event.getId());
+
+        assertThat(found).get().extracting(Event::getTitle, Event::getBasePrice, Event::getStatus)
+                .containsExactly("Concert", 150000.0, EventStatus.PUBLISHED);
+        assertThat(acceptSeen.get()).startsWith(EventBinaryCodec.MEDIA_TYPE);
+    }
+
+    @Test
+    void getEvent_missingEventIsEmpty() throws Exception {
+        UUID id = UUID.randomUUID();
+        server.createContext("/api/events/" + id, exchange -> respond(exchange, 404, "application/json",
+                "{\"status\":404}".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(client.getEvent(id)).isEmpty();
+    }
+
+    @Test
+    void getEventsByDate_rejectsJsonFromOlderServer() {
+        server.createContext("/api/events/date/2030-01-02", exchange -> respond(exchange, 200, "application/json",
+                "[]".getBytes(StandardCharsets.UTF_8)));
+
+        assertThrows(IOException.class, () -> client.getEventsByDate(LocalDate.of(2030, 1, 2)));
+    }
+
+    @Test
+    void getEventsByDate_decodesSummaries() throws Exception {
+        List<EventSummary> summaries = List.of(new EventSummary(UUID.randomUUID(), "Expo",
+                LocalDateTime.of(2030, 1, 2, 9, 0), "Depok", 50000.0, EventStatus.PUBLISHED));
+        server.createContext("/api/events/date/2030-01-02",
+                exchange -> respond(exchange, 200, EventBinaryCodec.MEDIA_TYPE, EventBinaryCodec.encode(summaries)));
+
+        assertThat(client.getEventsByDate(LocalDate.of(2030, 1, 2))).isEqualTo(summaries);
+    }
+
+    private void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        acceptSeen.set(exchange.getRequestHeaders().getFirst("Accept"));
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package id.ac.ui.cs.advprog.event.config;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AsyncExceptionHandlerTest {
+
+    @Test
+    void handleUncaughtException_countsFailuresByMethodAndException() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AsyncExceptionHandler handler = new AsyncExceptionHandler(registry);
+        Method method = String.class.getMethod("trim");
+
+        handler.handleUncaughtException(new IllegalStateException("boom"), method);
+        handler.handleUncaughtException(new IllegalStateException("again"), method);
+
+        assertEquals(2.0, registry.get("async.task.failures")
+                .tags("method", "String.trim", "exception", "IllegalStateException")
+                .counter().count());
+    }
+}
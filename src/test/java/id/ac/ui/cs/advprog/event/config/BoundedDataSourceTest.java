@@ -0,0 +1,59 @@
+package id.ac.ui.cs.advprog.event.config;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoundedDataSourceTest {
+
+    private DataSource target;
+    private Connection physical;
+    private BoundedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        target = mock(DataSource.class);
+        physical = mock(Connection.class);
+        when(target.getConnection()).thenReturn(physical);
+        dataSource = new BoundedDataSource(target, 2, 50);
+    }
+
+    @Test
+    void getConnection_failsFastOnceAllPermitsAreTaken() throws Exception {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertEquals(0, dataSource.availablePermits());
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+    }
+
+    @Test
+    void close_releasesPermitExactlyOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(2, dataSource.availablePermits());
+        verify(physical, times(1)).close();
+    }
+
+    @Test
+    void getConnection_releasesPermitWhenPoolThrows() throws Exception {
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        assertEquals(2, dataSource.availablePermits());
+    }
+}
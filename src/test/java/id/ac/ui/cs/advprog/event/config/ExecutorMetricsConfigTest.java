@@ -0,0 +1,53 @@
+package id.ac.ui.cs.advprog.event.config;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ExecutorMetricsConfigTest {
+
+    @Test
+    void threadPoolExecutorGetsPoolGaugesAndRejectionCounter() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BeanPostProcessor postProcessor = ExecutorMetricsConfig.executorMetricsPostProcessor(
+                new StaticListableBeanFactory(Map.of("registry", registry)).getBeanProvider(MeterRegistry.class));
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        postProcessor.postProcessBeforeInitialization(executor, "asyncExecutor");
+        executor.initialize();
+        postProcessor.postProcessAfterInitialization(executor, "asyncExecutor");
+
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(TaskMetricsDecorator.typed("publishEvent", () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            executor.execute(() -> { });
+
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+            assertEquals(1.0, registry.get("executor.tasks.rejected").tag("name", "asyncExecutor").counter().count());
+            assertEquals(1.0, registry.get("executor.queued").tag("name", "asyncExecutor").gauge().value());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
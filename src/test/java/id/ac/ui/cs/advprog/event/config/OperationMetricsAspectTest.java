@@ -0,0 +1,66 @@
+package id.ac.ui.cs.advprog.event.config;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.exception.EventNotFoundException;
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.service.EventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OperationMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private EventService target;
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        target = mock(EventService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(EventService.class);
+        factory.addAspect(new OperationMetricsAspect(registry));
+        eventService = factory.getProxy();
+    }
+
+    @Test
+    void timesSuccessfulCallsAndRecordsResultSize() {
+        UUID organizerId = UUID.randomUUID();
+        when(target.listEventsByOrganizer(organizerId)).thenReturn(List.of(new Event(), new Event(), new Event()));
+        when(target.listEvents(null, null, null)).thenReturn(new CursorPage<>(List.of(new EventSummary()), null));
+
+        eventService.listEventsByOrganizer(organizerId);
+        eventService.listEvents(null, null, null);
+
+        assertEquals(1, registry.get("event.service")
+                .tags("operation", "listEventsByOrganizer", "outcome", "success").timer().count());
+        assertEquals(3.0, registry.get("event.service.results")
+                .tag("operation", "listEventsByOrganizer").summary().totalAmount());
+        assertEquals(1.0, registry.get("event.service.results")
+                .tag("operation", "listEvents").summary().totalAmount());
+    }
+
+    @Test
+    void tagsFailuresWithOutcomeAndException() {
+        UUID id = UUID.randomUUID();
+        when(target.getEvent(id)).thenThrow(new EventNotFoundException("Event not found"));
+
+        assertThrows(EventNotFoundException.class, () -> eventService.getEvent(id));
+
+        assertEquals(1, registry.get("event.service")
+                .tags("operation", "getEvent", "outcome", "error", "exception", "EventNotFoundException")
+                .timer().count());
+    }
+}
@@ -0,0 +1,47 @@
+package id.ac.ui.cs.advprog.event.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskMetricsDecoratorTest {
+
+    private SimpleMeterRegistry registry;
+    private TaskMetricsDecorator decorator;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        decorator = new TaskMetricsDecorator(registry, "asyncExecutor");
+    }
+
+    @Test
+    void decorate_recordsWaitAndRunTimeByTaskType() {
+        decorator.decorate(TaskMetricsDecorator.typed("publishEvent", () -> { })).run();
+        decorator.decorate(() -> { }).run();
+
+        assertEquals(1, registry.get("executor.task.wait")
+                .tags("name", "asyncExecutor", "type", "publishEvent").timer().count());
+        assertEquals(1, registry.get("executor.task.run")
+                .tags("type", "publishEvent", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("executor.task.run")
+                .tags("type", TaskMetricsDecorator.UNTYPED).timer().count());
+        assertEquals(0.0, registry.get("executor.tasks.running").gauge().value());
+    }
+
+    @Test
+    void decorate_tagsFailedTasksWithErrorOutcome() {
+        Runnable failing = decorator.decorate(TaskMetricsDecorator.typed("publishEvent", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertThrows(IllegalStateException.class, failing::run);
+        assertEquals(1, registry.get("executor.task.run")
+                .tags("type", "publishEvent", "outcome", "error").timer().count());
+        assertEquals(0.0, registry.get("executor.tasks.running").gauge().value());
+    }
+}
@@ -1,14 +1,35 @@
 package id.ac.ui.cs.advprog.event.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import id.ac.ui.cs.advprog.event.binary.EventBinaryCodec;
+import id.ac.ui.cs.advprog.event.cache.EventFacetCounts;
+import id.ac.ui.cs.advprog.event.cache.PublicCatalogSnapshot;
+import id.ac.ui.cs.advprog.event.dto.BatchCreateResponse;
+import id.ac.ui.cs.advprog.event.dto.BatchItemResult;
+import id.ac.ui.cs.advprog.event.dto.CalendarDayCount;
 import id.ac.ui.cs.advprog.event.dto.CreateEventDTO;
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventCursor;
+import id.ac.ui.cs.advprog.event.dto.EventFacets;
+import id.ac.ui.cs.advprog.event.dto.EventLookupResponse;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.dto.FacetValue;
+import id.ac.ui.cs.advprog.event.dto.PublishJob;
 import id.ac.ui.cs.advprog.event.dto.UpdateEventDTO;
+import id.ac.ui.cs.advprog.event.enums.EventField;
 import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.enums.PublishJobStatus;
 import id.ac.ui.cs.advprog.event.exception.EventNotFoundException;
+import id.ac.ui.cs.advprog.event.exception.PreconditionFailedException;
+import id.ac.ui.cs.advprog.event.exception.QueueFullException;
+import id.ac.ui.cs.advprog.event.json.EventJsonWriter;
 import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.model.EventState;
 import id.ac.ui.cs.advprog.event.dto.ResponseDTO;
 import id.ac.ui.cs.advprog.event.security.JwtTokenProvider;
 import id.ac.ui.cs.advprog.event.service.EventService;
+import id.ac.ui.cs.advprog.event.service.PublishJobQueue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +41,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -31,19 +53,20 @@ import org.springframework.test.web.servlet.MvcResult;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 
 @WebMvcTest(EventController.class)
-@Import(id.ac.ui.cs.advprog.event.config.SecurityConfig.class)
+@Import({id.ac.ui.cs.advprog.event.config.SecurityConfig.class, PublicCatalogSnapshot.class, EventJsonWriter.class})
 @TestPropertySource(properties = {
         "CORS_ALLOWED_ORIGIN=http://localhost:3000 "
 })
@@ -60,18 +83,27 @@ public class EventControllerTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockBean
+    private PublishJobQueue publishJobQueue;
+
+    @MockBean
+    private EventFacetCounts eventFacetCounts;
+
 
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PublicCatalogSnapshot publicCatalogSnapshot;
+
     private UUID userUuid;
     private CreateEventDTO validDto;
 
     private Event event1;
     private Event event2;
     private UUID organizerId;
-    private List<Event> mockEvents;
+    private List<EventSummary> mockSummaries;
     @BeforeEach
     void setUp() {
         organizerId = UUID.fromString("c64ee53e-f39b-4ec8-9288-3318b0b8a97e");
@@ -106,7 +138,8 @@ public class EventControllerTest {
         event2.setStatus(EventStatus.PUBLISHED);
         event2.setUserId(organizerId);
 
-        mockEvents = Arrays.asList(event1, event2);
+        mockSummaries = Arrays.asList(EventSummary.of(event1), EventSummary.of(event2));
+        publicCatalogSnapshot.invalidate();
 
     }
 
@@ -140,6 +173,80 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$.location").value(createEventDTO.getLocation()));
     }
 
+    @Test
+    @WithMockUser(username = "c64ee53e-f39b-4ec8-9288-3318b0b8a97e", authorities = "Organizer")
+    void createEvents_allCreatedReturns201() throws Exception {
+        BatchCreateResponse response = BatchCreateResponse.builder()
+                .created(1)
+                .failed(0)
+                .results(List.of(BatchItemResult.builder().index(0).success(true).id(event1.getId()).build()))
+                .build();
+        when(eventService.createEvents(anyList(), eq(userUuid))).thenReturn(response);
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validDto))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].id").value(event1.getId().toString()));
+    }
+
+    @Test
+    @WithMockUser(username = "c64ee53e-f39b-4ec8-9288-3318b0b8a97e", authorities = "Organizer")
+    void createEvents_partialFailureReturns207() throws Exception {
+        BatchCreateResponse response = BatchCreateResponse.builder()
+                .created(0)
+                .failed(1)
+                .results(List.of(BatchItemResult.builder().index(0).success(false)
+                        .errors(List.of("Event title cannot be null or empty")).build()))
+                .build();
+        when(eventService.createEvents(anyList(), eq(userUuid))).thenReturn(response);
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{}]"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.results[0].errors[0]").value("Event title cannot be null or empty"));
+    }
+
+    @Test
+    @WithMockUser(username = "c64ee53e-f39b-4ec8-9288-3318b0b8a97e", authorities = "Organizer")
+    void createEvents_oversizedBatchReturns400() throws Exception {
+        when(eventService.createEvents(anyList(), eq(userUuid)))
+                .thenThrow(new IllegalArgumentException("Batch cannot contain more than 10000 events"));
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{}]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void lookupEvents_returnsFoundEventsAndMissingIds() throws Exception {
+        UUID unknown = UUID.randomUUID();
+        List<UUID> ids = List.of(event2.getId(), unknown, event1.getId());
+        when(eventService.getEvents(ids)).thenReturn(new EventLookupResponse(List.of(event2, event1), List.of(unknown)));
+
+        mockMvc.perform(post("/api/events/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].title").value("Test Event 2"))
+                .andExpect(jsonPath("$.events[1].title").value("Test Event 1"))
+                .andExpect(jsonPath("$.missing[0]").value(unknown.toString()));
+    }
+
+    @Test
+    void lookupEvents_oversizedLookupReturns400() throws Exception {
+        when(eventService.getEvents(anyList()))
+                .thenThrow(new IllegalArgumentException("Lookup cannot contain more than 500 ids"));
+
+        mockMvc.perform(post("/api/events/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + UUID.randomUUID() + "\"]"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(authorities = "Organizer")
     void getEventById_success() throws Exception {
@@ -155,6 +262,111 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$.title").value("Found Event"));
     }
 
+    @Test
+    void getEventById_failureOtherThanMissingIsNotReportedAs404() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(eventService.getEvent(id)).thenThrow(new IllegalStateException("connection reset"));
+
+        mockMvc.perform(get("/api/events/{id}", id))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void getEventById_returnsVersionEtag() throws Exception {
+        UUID id = UUID.randomUUID();
+        Event event = new Event();
+        event.setId(id);
+        event.setVersion(3);
+
+        when(eventService.getEvent(id)).thenReturn(event);
+
+        mockMvc.perform(get("/api/events/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void getEventById_notModifiedWhenVersionMatches() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(eventService.getEventVersion(id)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/events/{id}", id).header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        verify(eventService, never()).getEvent(id);
+    }
+
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void updateEvent_passesIfMatchVersionToService() throws Exception {
+        UUID id = UUID.randomUUID();
+        UpdateEventDTO dto = new UpdateEventDTO();
+        dto.setTitle("Updated Event");
+
+        when(eventService.updateEvent(eq(id), any(UpdateEventDTO.class), eq(4L))).thenReturn(dto);
+
+        mockMvc.perform(put("/api/events/{id}", id)
+                        .header("If-Match", "\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void updateEvent_acceptsIfMatchFromASparseRepresentation() throws Exception {
+        UUID id = UUID.randomUUID();
+        UpdateEventDTO dto = new UpdateEventDTO();
+        dto.setTitle("Updated Event");
+
+        when(eventService.updateEvent(eq(id), any(UpdateEventDTO.class), eq(4L))).thenReturn(dto);
+
+        mockMvc.perform(put("/api/events/{id}", id)
+                        .header("If-Match", "\"4-f9\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void updateEvent_staleIfMatchReturnsPreconditionFailed() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(eventService.updateEvent(eq(id), any(UpdateEventDTO.class), eq(1L)))
+                .thenThrow(new PreconditionFailedException("Event has been modified"));
+
+        mockMvc.perform(put("/api/events/{id}", id)
+                        .header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateEventDTO())))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void cancelEvent_weakIfMatchIsRejectedWithoutCallingService() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        mockMvc.perform(patch("/api/events/{id}/cancel", id).header("If-Match", "W/\"1\""))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void completeEvent_concurrentWriteReturnsConflict() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(eventService.completeEvent(eq(id), eq(2L)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Event.class, id));
+
+        mockMvc.perform(patch("/api/events/{id}/complete", id).header("If-Match", "\"2\""))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @WithMockUser(authorities = "Organizer")
     void updateEvent_success() throws Exception {
@@ -162,7 +374,7 @@ public class EventControllerTest {
         UpdateEventDTO dto = new UpdateEventDTO();
         dto.setTitle("Updated Event");
 
-        when(eventService.updateEvent(eq(id), any(UpdateEventDTO.class))).thenReturn(dto);
+        when(eventService.updateEvent(eq(id), any(UpdateEventDTO.class), isNull())).thenReturn(dto);
 
         mockMvc.perform(put("/api/events/{id}", id)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -184,94 +396,236 @@ public class EventControllerTest {
     @WithMockUser(authorities = "Organizer")
     void getEventsByDate_success() throws Exception {
         LocalDate date = LocalDate.from(LocalDateTime.now().plusDays(1));
-        List<Event> events = List.of(new Event(), new Event());
+        List<EventSummary> events = List.of(new EventSummary(), new EventSummary());
 
-        when(eventService.getEventByDate(LocalDate.from(date))).thenReturn(events);
+        when(eventService.listEventsInRange(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), null, null, null))
+                .thenReturn(new CursorPage<>(events, null));
 
         mockMvc.perform(get("/api/events/date/{date}", date))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    void getEventsInWeek_coversMondayToMonday() throws Exception {
+        LocalDate monday = LocalDate.of(2030, 1, 7);
+        when(eventService.listEventsInRange(monday.atStartOfDay(), monday.plusDays(7).atStartOfDay(),
+                List.of(EventStatus.PUBLISHED), null, null)).thenReturn(new CursorPage<>(List.of(EventSummary.of(event2)), null));
+
+        mockMvc.perform(get("/api/events/week/{date}", "2030-01-10").param("status", "PUBLISHED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
 
     @Test
-    @WithMockUser(authorities = "Organizer")
-    void publishEvent_success() throws Exception {
-        UUID id = UUID.randomUUID();
-        ResponseDTO<EventStatus> response = ResponseDTO.<EventStatus>builder()
-                .success(true)
-                .data(EventStatus.PUBLISHED)
-                .build();
+    void getEventsInMonth_coversWholeMonth() throws Exception {
+        when(eventService.listEventsInRange(LocalDateTime.of(2030, 2, 1, 0, 0), LocalDateTime.of(2030, 3, 1, 0, 0),
+                null, null, null)).thenReturn(new CursorPage<>(mockSummaries, null));
+
+        mockMvc.perform(get("/api/events/month/{month}", "2030-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void getEventsInRange_invalidRangeReturns400() throws Exception {
+        LocalDateTime at = LocalDateTime.of(2030, 1, 1, 0, 0);
+        when(eventService.listEventsInRange(at, at, null, null, null))
+                .thenThrow(new IllegalArgumentException("'from' must be before 'to'"));
+
+        mockMvc.perform(get("/api/events/range")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCalendar_returnsPerDayCounts() throws Exception {
+        LocalDate from = LocalDate.of(2030, 1, 1);
+        LocalDate to = LocalDate.of(2030, 2, 1);
+        when(eventService.getCalendar(from, to, null)).thenReturn(List.of(
+                new CalendarDayCount(LocalDate.of(2030, 1, 3), 4L),
+                new CalendarDayCount(LocalDate.of(2030, 1, 9), 1L)));
+
+        mockMvc.perform(get("/api/events/calendar").param("from", "2030-01-01").param("to", "2030-02-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].date").value("2030-01-03"))
+                .andExpect(jsonPath("$[0].count").value(4));
+    }
 
-        when(eventService.publishEvent(id)).thenReturn(CompletableFuture.completedFuture(response));
 
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void getEventById_servesBinaryWhenRequested() throws Exception {
+        event1.setVersion(2);
+        when(eventService.getEvent(event1.getId())).thenReturn(event1);
 
-        MvcResult mvcResult = mockMvc.perform(patch("/api/events/{id}/publish", id))
-                .andExpect(request().asyncStarted())
+        MvcResult result = mockMvc.perform(get("/api/events/{id}", event1.getId())
+                        .header("Accept", EventBinaryCodec.MEDIA_TYPE + ", application/json;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EventBinaryCodec.MEDIA_TYPE))
+                .andExpect(header().string("ETag", "\"2-b\""))
+                .andExpect(header().string("Vary", containsString("Accept")))
                 .andReturn();
 
-        mockMvc.perform(asyncDispatch(mvcResult))
+        Event decoded = EventBinaryCodec.decodeEvent(result.getResponse().getContentAsByteArray());
+        assertThat(decoded.getId()).isEqualTo(event1.getId());
+        assertThat(decoded.getBasePrice()).isEqualTo(100.0);
+        assertThat(decoded.getStatus()).isEqualTo(EventStatus.DRAFT);
+    }
+
+    @Test
+    void getEventById_defaultsToJsonForWildcardAccept() throws Exception {
+        when(eventService.getEvent(event1.getId())).thenReturn(event1);
+
+        mockMvc.perform(get("/api/events/{id}", event1.getId()).header("Accept", "*/*"))
                 .andExpect(status().isOk())
-                .andExpect(content().string("\"PUBLISHED\""));
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.title").value("Test Event 1"));
     }
 
     @Test
-    @WithMockUser(authorities = "Organizer")
-    void publishEvent_runtimeException() throws Exception {
-        UUID id = UUID.randomUUID();
+    void getEventsByDate_servesBinarySummaries() throws Exception {
+        LocalDate date = LocalDate.of(2030, 1, 2);
+        when(eventService.listEventsInRange(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), null, null, null))
+                .thenReturn(new CursorPage<>(mockSummaries, null));
+
+        MvcResult result = mockMvc.perform(get("/api/events/date/{date}", date)
+                        .header("Accept", EventBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andReturn();
 
+        assertThat(EventBinaryCodec.decodeSummaries(result.getResponse().getContentAsByteArray()))
+                .extracting(EventSummary::getTitle)
+                .containsExactly("Test Event 1", "Test Event 2");
+    }
 
-        when(eventService.publishEvent(id))
-                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Unexpected error")));
+    @Test
+    void getCalendar_hasNoBinaryEncoding() throws Exception {
+        mockMvc.perform(get("/api/events/calendar").param("from", "2030-01-01").param("to", "2030-02-01")
+                        .header("Accept", EventBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isNotAcceptable());
+    }
 
-        MvcResult mvcResult = mockMvc.perform(patch("/api/events/{id}/publish", id))
-                .andExpect(request().asyncStarted())
+    @Test
+    void getAllEvents_binaryClientBypassesJsonSnapshot() throws Exception {
+        SecurityContextHolder.clearContext();
+        when(eventService.listEvents(null, null, null)).thenReturn(new CursorPage<>(mockSummaries, null));
+
+        MvcResult result = mockMvc.perform(get("/api/events").header("Accept", EventBinaryCodec.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EventBinaryCodec.MEDIA_TYPE))
                 .andReturn();
 
-        mockMvc.perform(asyncDispatch(mvcResult))
-                .andExpect(status().isInternalServerError())
-                .andExpect(content().string(containsString("An unexpected error occurred")));
+        assertThat(EventBinaryCodec.decodeSummaries(result.getResponse().getContentAsByteArray())).hasSize(2);
     }
 
     @Test
-    @WithMockUser(authorities = "Organizer")
-    void publishEvent_unsuccessful_shouldReturn400BadRequest() throws Exception {
-        UUID id = UUID.randomUUID();
+    void getFacets_servesCachedCounts() throws Exception {
+        SecurityContextHolder.clearContext();
+        when(eventFacetCounts.current()).thenReturn(EventFacets.builder()
+                .location(List.of(new FacetValue("Jakarta", 3)))
+                .month(List.of(new FacetValue("2030-01", 3)))
+                .priceBand(List.of(new FacetValue("UNDER_100K", 3)))
+                .status(List.of(new FacetValue("PUBLISHED", 3)))
+                .build());
+
+        mockMvc.perform(get("/api/events/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.location[0].value").value("Jakarta"))
+                .andExpect(jsonPath("$.location[0].count").value(3))
+                .andExpect(jsonPath("$.price_band[0].value").value("UNDER_100K"));
 
+        verifyNoInteractions(eventService);
+    }
 
-        ResponseDTO<EventStatus> failedResponse = ResponseDTO.<EventStatus>builder()
-                .success(false)
-                .message("Event not found")
+    @Test
+    @WithMockUser(username = "organizer", authorities = "Organizer")
+    void publishEvent_queuesJobAndReturnsAccepted() throws Exception {
+        UUID id = UUID.randomUUID();
+        PublishJob job = PublishJob.builder()
+                .id(UUID.randomUUID())
+                .eventId(id)
+                .status(PublishJobStatus.QUEUED)
                 .build();
+        when(eventService.getEventVersion(id)).thenReturn(3L);
+        when(publishJobQueue.submit(id, null, "organizer")).thenReturn(job);
 
-        when(eventService.publishEvent(id))
-                .thenReturn(CompletableFuture.completedFuture(failedResponse));
+        mockMvc.perform(patch("/api/events/{id}/publish", id))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/events/publish-jobs/" + job.getId()))
+                .andExpect(jsonPath("$.id").value(job.getId().toString()))
+                .andExpect(jsonPath("$.event_id").value(id.toString()))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
 
-        MvcResult mvcResult = mockMvc.perform(patch("/api/events/{id}/publish", id))
-                .andExpect(request().asyncStarted())
-                .andReturn();
+        verify(eventService, never()).publishEvent(any(), any());
+    }
 
-        mockMvc.perform(asyncDispatch(mvcResult))
-                .andExpect(status().isBadRequest());
+    @Test
+    @WithMockUser(username = "organizer", authorities = "Organizer")
+    void publishEvent_passesIfMatchVersionToJob() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(eventService.getEventVersion(id)).thenReturn(3L);
+        when(publishJobQueue.submit(id, 3L, "organizer"))
+                .thenReturn(PublishJob.builder().id(UUID.randomUUID()).eventId(id).status(PublishJobStatus.QUEUED).build());
 
+        mockMvc.perform(patch("/api/events/{id}/publish", id).header("If-Match", "\"3\""))
+                .andExpect(status().isAccepted());
     }
 
     @Test
     @WithMockUser(authorities = "Organizer")
-    void publishEvent_eventNotFound() throws Exception {
+    void publishEvent_staleIfMatchIsRejectedBeforeQueueing() throws Exception {
         UUID id = UUID.randomUUID();
+        when(eventService.getEventVersion(id)).thenReturn(4L);
 
+        mockMvc.perform(patch("/api/events/{id}/publish", id).header("If-Match", "\"3\""))
+                .andExpect(status().isPreconditionFailed());
 
-        when(eventService.publishEvent(id))
-                .thenReturn(CompletableFuture.failedFuture(new EventNotFoundException("Event not found")));
+        verifyNoInteractions(publishJobQueue);
+    }
 
-        MvcResult mvcResult = mockMvc.perform(patch("/api/events/{id}/publish", id))
-                .andExpect(request().asyncStarted())
-                .andReturn();
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void publishEvent_fullQueueReturns429WithRetryAfter() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(eventService.getEventVersion(id)).thenReturn(1L);
+        when(publishJobQueue.submit(eq(id), isNull(), any()))
+                .thenThrow(new QueueFullException("Publish queue is full, please retry later", 5));
 
-        mockMvc.perform(asyncDispatch(mvcResult))
-                .andExpect(status().isNotFound())
-                .andExpect(content().string(containsString("Event not found")));
+        mockMvc.perform(patch("/api/events/{id}/publish", id))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(content().string(containsString("Publish queue is full")));
+    }
+
+    @Test
+    @WithMockUser(username = "organizer", authorities = "Organizer")
+    void getPublishJob_returnsOutcome() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        PublishJob job = PublishJob.builder()
+                .id(jobId)
+                .eventId(UUID.randomUUID())
+                .status(PublishJobStatus.FAILED)
+                .message("Cannot publish event with a past date")
+                .build();
+        when(publishJobQueue.find(jobId, "organizer")).thenReturn(Optional.of(job));
+
+        mockMvc.perform(get("/api/events/publish-jobs/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.message").value("Cannot publish event with a past date"));
+    }
+
+    @Test
+    @WithMockUser(username = "organizer", authorities = "Organizer")
+    void getPublishJob_unknownJobReturns404() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(publishJobQueue.find(jobId, "organizer")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/events/publish-jobs/{jobId}", jobId))
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -283,7 +637,7 @@ public class EventControllerTest {
                 .data(EventStatus.CANCELLED)
                 .build();
 
-        when(eventService.cancelEvent(id)).thenReturn(response);
+        when(eventService.cancelEvent(eq(id), isNull())).thenReturn(response);
 
         mockMvc.perform(patch("/api/events/{id}/cancel", id))
                 .andExpect(status().isOk())
@@ -299,7 +653,7 @@ public class EventControllerTest {
                 .data(EventStatus.COMPLETED)
                 .build();
 
-        when(eventService.completeEvent(id)).thenReturn(response);
+        when(eventService.completeEvent(eq(id), isNull())).thenReturn(response);
 
         mockMvc.perform(patch("/api/events/{id}/complete", id))
                 .andExpect(status().isOk())
@@ -340,7 +694,7 @@ public class EventControllerTest {
         UpdateEventDTO dto = new UpdateEventDTO();
         dto.setTitle("");
 
-        when(eventService.updateEvent(eq(id), any(UpdateEventDTO.class)))
+        when(eventService.updateEvent(eq(id), any(UpdateEventDTO.class), isNull()))
                 .thenThrow(new IllegalArgumentException("Invalid title"));
 
         mockMvc.perform(put("/api/events/{id}", id)
@@ -356,7 +710,7 @@ public class EventControllerTest {
         UpdateEventDTO dto = new UpdateEventDTO();
         dto.setTitle("Any Title");
 
-        when(eventService.updateEvent(eq(id), any(UpdateEventDTO.class)))
+        when(eventService.updateEvent(eq(id), any(UpdateEventDTO.class), isNull()))
                 .thenThrow(new EventNotFoundException("Event not found"));
 
         mockMvc.perform(put("/api/events/{id}", id)
@@ -369,17 +723,19 @@ public class EventControllerTest {
     @WithMockUser(authorities = "Organizer")
     void publishEvent_shouldReturnNotFound_whenEventDoesNotExist() throws Exception {
         UUID id = UUID.randomUUID();
-        when(eventService.publishEvent(id)).thenThrow(new EventNotFoundException("Event not found"));
+        when(eventService.getEventVersion(id)).thenThrow(new EventNotFoundException("Event not found"));
 
         mockMvc.perform(patch("/api/events/{id}/publish", id))
                 .andExpect(status().isNotFound());
+
+        verifyNoInteractions(publishJobQueue);
     }
 
     @Test
     @WithMockUser(authorities = "Organizer")
     void cancelEvent_shouldReturnNotFound_whenEventDoesNotExist() throws Exception {
         UUID id = UUID.randomUUID();
-        when(eventService.cancelEvent(id)).thenThrow(new EventNotFoundException("Event not found"));
+        when(eventService.cancelEvent(eq(id), isNull())).thenThrow(new EventNotFoundException("Event not found"));
 
         mockMvc.perform(patch("/api/events/{id}/cancel", id))
                 .andExpect(status().isNotFound());
@@ -389,7 +745,7 @@ public class EventControllerTest {
     @WithMockUser(authorities = "Organizer")
     void completeEvent_shouldReturnNotFound_whenEventDoesNotExist() throws Exception {
         UUID id = UUID.randomUUID();
-        when(eventService.completeEvent(id)).thenThrow(new EventNotFoundException("Event not found"));
+        when(eventService.completeEvent(eq(id), isNull())).thenThrow(new EventNotFoundException("Event not found"));
 
         mockMvc.perform(patch("/api/events/{id}/complete", id))
                 .andExpect(status().isNotFound());
@@ -487,20 +843,216 @@ public class EventControllerTest {
     @Test
     void getAllEvents_shouldReturnOk_whenNoAuthentication() throws Exception {
        
-        List<Event> mockEvents = Arrays.asList(
-                new Event(),
-                new Event()
+        List<EventSummary> mockSummaries = Arrays.asList(
+                new EventSummary(),
+                new EventSummary()
         );
 
-        when(eventService.listEvents(null)).thenReturn(mockEvents);
+        when(eventService.listEvents(null, null, null)).thenReturn(new CursorPage<>(mockSummaries, null));
 
         SecurityContextHolder.clearContext();
 
         mockMvc.perform(get("/api/events"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(EventController.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$", hasSize(2)));
 
-        verify(eventService).listEvents(null);
+        verify(eventService).listEvents(null, null, null);
+    }
+
+    @Test
+    void getAllEvents_anonymousFirstPageIsServedFromSnapshotWithEtag() throws Exception {
+        SecurityContextHolder.clearContext();
+        when(eventService.listEvents(null, null, null)).thenReturn(new CursorPage<>(mockSummaries, null));
+
+        MvcResult first = mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/events").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(eventService, times(1)).listEvents(null, null, null);
+    }
+
+    @Test
+    void getAllEvents_anonymousSnapshotIsGzippedWhenAccepted() throws Exception {
+        SecurityContextHolder.clearContext();
+        when(eventService.listEvents(null, null, null)).thenReturn(new CursorPage<>(mockSummaries, null));
+
+        MvcResult result = mockMvc.perform(get("/api/events").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                .andReturn();
+
+        byte[] body = new java.util.zip.GZIPInputStream(
+                new java.io.ByteArrayInputStream(result.getResponse().getContentAsByteArray())).readAllBytes();
+        assertThat(objectMapper.readTree(body)).hasSize(2);
+    }
+
+    @Test
+    void getAllEvents_gzipSnapshotHasItsOwnEtag() throws Exception {
+        SecurityContextHolder.clearContext();
+        when(eventService.listEvents(null, null, null)).thenReturn(new CursorPage<>(mockSummaries, null));
+
+        String identity = mockMvc.perform(get("/api/events"))
+                .andReturn().getResponse().getHeader("ETag");
+        String gzip = mockMvc.perform(get("/api/events").header("Accept-Encoding", "gzip"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertThat(gzip).isEqualTo(identity.substring(0, identity.length() - 1) + "-gz\"");
+        mockMvc.perform(get("/api/events").header("Accept-Encoding", "gzip").header("If-None-Match", gzip))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/events").header("Accept-Encoding", "gzip").header("If-None-Match", identity))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllEvents_snapshotIsRebuiltAfterPublicChange() throws Exception {
+        SecurityContextHolder.clearContext();
+        when(eventService.listEvents(null, null, null))
+                .thenReturn(new CursorPage<>(List.of(EventSummary.of(event2)), null))
+                .thenReturn(new CursorPage<>(mockSummaries, null));
+
+        mockMvc.perform(get("/api/events")).andExpect(jsonPath("$", hasSize(1)));
+        event1.setStatus(EventStatus.PUBLISHED);
+        publicCatalogSnapshot.onEventChanged(new EventChangedEvent(null, EventState.of(event1)));
+
+        mockMvc.perform(get("/api/events")).andExpect(jsonPath("$", hasSize(2)));
+        verify(eventService, times(2)).listEvents(null, null, null);
+    }
+
+    @Test
+    void getAllEvents_shouldExposeNextCursorHeader_whenMorePagesExist() throws Exception {
+        EventCursor cursor = new EventCursor(event1.getEventDate(), event1.getId());
+        String nextCursor = new EventCursor(event2.getEventDate(), event2.getId()).encode();
+
+        when(eventService.listEvents(null, cursor, 2)).thenReturn(new CursorPage<>(mockSummaries, nextCursor));
+
+        SecurityContextHolder.clearContext();
+
+        mockMvc.perform(get("/api/events")
+                        .param("cursor", cursor.encode())
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(EventController.NEXT_CURSOR_HEADER, nextCursor))
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void getAllEvents_shouldReturnBadRequest_whenCursorIsMalformed() throws Exception {
+        SecurityContextHolder.clearContext();
+
+        mockMvc.perform(get("/api/events").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void getAllEvents_withFieldsServesOnlySelectedProperties() throws Exception {
+        SecurityContextHolder.clearContext();
+        Set<EventField> fields = EnumSet.of(EventField.TITLE, EventField.BASE_PRICE);
+        when(eventService.listEvents(null, fields, null, null)).thenReturn(new CursorPage<>(List.of(event1, event2), null));
+
+        mockMvc.perform(get("/api/events").param("fields", "title,basePrice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("Test Event 1"))
+                .andExpect(jsonPath("$[0].basePrice").value(100.0))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(eventService, never()).listEvents(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void getEventById_revalidatesBinaryAndJsonSeparately() throws Exception {
+        event1.setVersion(2);
+        when(eventService.getEventVersion(event1.getId())).thenReturn(2L);
+        when(eventService.getEvent(event1.getId())).thenReturn(event1);
+
+        mockMvc.perform(get("/api/events/{id}", event1.getId())
+                        .header("Accept", EventBinaryCodec.MEDIA_TYPE)
+                        .header("If-None-Match", "\"2-b\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2-b\""));
+        mockMvc.perform(get("/api/events/{id}", event1.getId())
+                        .header("Accept", EventBinaryCodec.MEDIA_TYPE)
+                        .header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EventBinaryCodec.MEDIA_TYPE));
+        mockMvc.perform(get("/api/events/{id}", event1.getId())
+                        .header("Accept", "application/json")
+                        .header("If-None-Match", "\"2-b\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""));
+    }
+
+    @Test
+    void getAllEvents_nonPositiveLimitReturns400() throws Exception {
+        SecurityContextHolder.clearContext();
+
+        mockMvc.perform(get("/api/events").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void getAllEvents_unknownFieldReturns400() throws Exception {
+        SecurityContextHolder.clearContext();
+
+        mockMvc.perform(get("/api/events").param("fields", "title,password"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void getEventById_withFieldsTagsTheFieldSet() throws Exception {
+        Set<EventField> fields = EnumSet.of(EventField.ID, EventField.EVENT_DATE);
+        event1.setVersion(4);
+        when(eventService.getEvent(event1.getId(), fields)).thenReturn(event1);
+
+        mockMvc.perform(get("/api/events/{id}", event1.getId()).param("fields", "id,event_date"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4-f9\""))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andExpect(jsonPath("$.id").value(event1.getId().toString()))
+                .andExpect(jsonPath("$.event_date").exists())
+                .andExpect(jsonPath("$.title").doesNotExist());
+
+        verify(eventService, never()).getEvent(event1.getId());
+    }
+
+    @Test
+    @WithMockUser(authorities = "Organizer")
+    void getEventById_withFieldsRevalidatesOnlyTheSameFieldSet() throws Exception {
+        Set<EventField> fields = EnumSet.of(EventField.ID, EventField.EVENT_DATE);
+        event1.setVersion(4);
+        when(eventService.getEventVersion(event1.getId())).thenReturn(4L);
+        when(eventService.getEvent(event1.getId(), fields)).thenReturn(event1);
+
+        mockMvc.perform(get("/api/events/{id}", event1.getId()).param("fields", "event_date,id")
+                        .header("If-None-Match", "\"4-f9\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"4-f9\""));
+        mockMvc.perform(get("/api/events/{id}", event1.getId()).param("fields", "id,event_date")
+                        .header("If-None-Match", "\"4\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4-f9\""));
+        when(eventService.getEvent(event1.getId())).thenReturn(event1);
+        mockMvc.perform(get("/api/events/{id}", event1.getId()).header("If-None-Match", "\"4-f9\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
     }
 
     @Test
@@ -517,18 +1069,18 @@ public class EventControllerTest {
         SecurityContextHolder.setContext(mockSecurityContext);
 
         // Mock data untuk response
-        List<Event> mockEvents = Arrays.asList(
-                new Event(),
-                new Event()
+        List<EventSummary> mockSummaries = Arrays.asList(
+                new EventSummary(),
+                new EventSummary()
         );
                 
-        when(eventService.listEvents(userId)).thenReturn(mockEvents);
+        when(eventService.listEvents(userId, null, null)).thenReturn(new CursorPage<>(mockSummaries, null));
 
         mockMvc.perform(get("/api/events")
                         .header("Authorization", "Bearer valid-token"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)));
-        verify(eventService).listEvents(userId);
+        verify(eventService).listEvents(userId, null, null);
     }
 
 
@@ -585,20 +1137,32 @@ public class EventControllerTest {
         SecurityContextHolder.clearContext();
 
 
-        when(eventService.listEvents(null)).thenThrow(new RuntimeException("Simulated failure"));
+        when(eventService.listEvents(null, null, null)).thenThrow(new RuntimeException("Simulated failure"));
 
         mockMvc.perform(get("/api/events"))
                 .andExpect(status().isInternalServerError())
-                .andExpect(content().string("Failed get event"));
+                .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
+
+        verify(eventService).listEvents(null, null, null);
+    }
 
-        verify(eventService).listEvents(null);
+    @Test
+    void getAllEvents_busyDatabaseReturns503() throws Exception {
+        SecurityContextHolder.clearContext();
+        when(eventService.listEvents(null, null, null))
+                .thenThrow(new org.springframework.dao.DataAccessResourceFailureException("pool exhausted"));
+
+        mockMvc.perform(get("/api/events"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
     }
 
     @Test
     @WithMockUser(username = "c64ee53e-f39b-4ec8-9288-3318b0b8a97e", authorities = "Organizer")
     void getMyEvents_Success_ReturnsEventsList() throws Exception {
         // Arrange
-        when(eventService.listEventsByOrganizer(any(UUID.class))).thenReturn(mockEvents);
+        when(eventService.listEventsByOrganizer(any(UUID.class), isNull(), isNull()))
+                .thenReturn(new CursorPage<>(mockSummaries, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/events/organizer/my-events")
@@ -611,6 +1175,7 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$.data.events[0].location").value("Depok"))
                 .andExpect(jsonPath("$.data.events[0].basePrice").value(100.0))
                 .andExpect(jsonPath("$.data.events[0].status").value("DRAFT"))
+                .andExpect(jsonPath("$.data.events[0].description").doesNotExist())
                 .andExpect(jsonPath("$.data.events[1].title").value("Test Event 2"))
                 .andExpect(jsonPath("$.data.events[1].location").value("Jakarta"))
                 .andExpect(jsonPath("$.data.events[1].basePrice").value(200.0))
@@ -621,7 +1186,8 @@ public class EventControllerTest {
     @WithMockUser(username = "12345678-1234-1234-1234-123456789012", authorities = "Organizer")
     void getMyEvents_EmptyList_ReturnsEmptyArray() throws Exception {
 
-        when(eventService.listEventsByOrganizer(any(UUID.class))).thenReturn(Arrays.asList());
+        when(eventService.listEventsByOrganizer(any(UUID.class), isNull(), isNull()))
+                .thenReturn(new CursorPage<>(Arrays.asList(), null));
 
 
         mockMvc.perform(get("/api/events/organizer/my-events")
@@ -0,0 +1,104 @@
+package id.ac.ui.cs.advprog.event.json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventField;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+
+// The fast path must produce exactly the bytes the application ObjectMapper produces.
+class EventJsonWriterTest {
+
+    private ObjectMapper objectMapper;
+    private EventJsonWriter eventJsonWriter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        eventJsonWriter = new EventJsonWriter(objectMapper);
+    }
+
+    @Test
+    void event_matchesReflectivePath() throws Exception {
+        Event event = event("Jazz \"Night\" \\ Caf\u00e9 \u2603", LocalDateTime.of(2030, 1, 2, 19, 30, 5, 123_000_000));
+        event.setUpdatedAt(LocalDateTime.of(2029, 12, 31, 23, 59, 59));
+
+        assertSameJson(objectMapper.writeValueAsBytes(event), eventJsonWriter.toBytes(event));
+    }
+
+    @Test
+    void event_writesNullsLikeReflectivePath() throws Exception {
+        Event event = event("Seminar", LocalDateTime.of(2031, 6, 1, 0, 0));
+        event.setDescription(null);
+        event.setUserId(null);
+
+        assertSameJson(objectMapper.writeValueAsBytes(event), eventJsonWriter.toBytes(event));
+    }
+
+    @Test
+    void summaries_matchReflectivePath() throws Exception {
+        List<EventSummary> summaries = List.of(
+                EventSummary.of(event("Concert\n<b>", LocalDateTime.of(2030, 1, 2, 9, 5))),
+                EventSummary.of(event("Expo", LocalDateTime.of(10_000, 1, 1, 0, 0))),
+                new EventSummary());
+
+        assertSameJson(objectMapper.writeValueAsBytes(summaries), eventJsonWriter.toBytes(summaries));
+        assertSameJson(objectMapper.writeValueAsBytes(List.of()), eventJsonWriter.toBytes(List.<EventSummary>of()));
+    }
+
+    @Test
+    void pooledBuffersDoNotLeakBetweenWrites() throws Exception {
+        Event big = event("x".repeat(100_000), LocalDateTime.of(2030, 1, 1, 0, 0));
+        Event small = event("Small", LocalDateTime.of(2030, 1, 1, 0, 0));
+
+        eventJsonWriter.toBytes(big);
+
+        assertSameJson(objectMapper.writeValueAsBytes(small), eventJsonWriter.toBytes(small));
+    }
+
+    @Test
+    void select_matchesReflectivePathWithUnselectedPropertiesRemoved() throws Exception {
+        Event event = event("Concert", LocalDateTime.of(2030, 1, 2, 19, 30));
+        Set<EventField> fields = EnumSet.of(EventField.BASE_PRICE, EventField.EVENT_DATE, EventField.TITLE);
+
+        ObjectNode expected = objectMapper.valueToTree(event);
+        expected.retain("title", "event_date", "basePrice");
+
+        assertSameJson(objectMapper.writeValueAsBytes(expected),
+                eventJsonWriter.toBytes(eventJsonWriter.select(event, fields)::write));
+        assertSameJson(objectMapper.writeValueAsBytes(List.of(expected)),
+                eventJsonWriter.toBytes(eventJsonWriter.select(List.of(event), fields)::write));
+    }
+
+    private static void assertSameJson(byte[] expected, byte[] actual) {
+        assertEquals(new String(expected, StandardCharsets.UTF_8), new String(actual, StandardCharsets.UTF_8));
+    }
+
+    private static Event event(String title, LocalDateTime eventDate) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle(title);
+        event.setDescription("Live music");
+        event.setEventDate(eventDate);
+        event.setLocation("Jakarta");
+        event.setBasePrice(150000.5);
+        event.setStatus(EventStatus.PUBLISHED);
+        event.setUserId(UUID.randomUUID());
+        return event;
+    }
+}
@@ -0,0 +1,176 @@
+package id.ac.ui.cs.advprog.event.repository;
+
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+
+// Runs the SQL behind every EventRepository query against a seeded schema built by the Flyway
+// migrations and fails if H2 plans a full table scan. H2 cannot use an index for an OR across
+// different columns, so findOwnOrPublished* is checked branch by branch, which is how PostgreSQL's
+// BitmapOr executes it.
+@DataJpaTest
+public class EventQueryPlanTest {
+
+    private static final String USER = "'00000000-0000-0000-0000-000000000001'";
+    private static final String ID = "'00000000-0000-0000-0000-0000000000ff'";
+    private static final String PUBLIC = "('PUBLISHED', 'COMPLETED')";
+    private static final String DATE = "TIMESTAMP '2031-06-01 10:00:00'";
+    private static final String FROM = "TIMESTAMP '2031-06-01 00:00:00'";
+    private static final String TO = "TIMESTAMP '2031-07-01 00:00:00'";
+    private static final String KEYSET = " AND (event_date > " + DATE + " OR (event_date = " + DATE + " AND id > " + ID + "))";
+
+    private static final Map<String, List<String>> QUERIES = Map.ofEntries(
+            entry("findByEventDate", List.of("SELECT * FROM events WHERE event_date = " + DATE)),
+            entry("findByLocation", List.of("SELECT * FROM events WHERE location = 'Hall 7'")),
+            entry("findByEventDateAfter", List.of("SELECT * FROM events WHERE event_date > " + DATE)),
+            entry("findOwnOrPublishedEvents", List.of(
+                    "SELECT * FROM events WHERE user_id = " + USER,
+                    "SELECT * FROM events WHERE status IN " + PUBLIC)),
+            entry("findByStatus", List.of("SELECT * FROM events WHERE status = 'DRAFT'")),
+            entry("findByStatusIn", List.of("SELECT * FROM events WHERE status IN " + PUBLIC)),
+            entry("findByUserId", List.of("SELECT * FROM events WHERE user_id = " + USER)),
+            entry("findVersionById", List.of("SELECT version FROM events WHERE id = " + ID)),
+            entry("findPageByStatusIn", List.of(
+                    "SELECT * FROM events WHERE status IN " + PUBLIC + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY")),
+            entry("findPageByStatusInAfter", List.of(
+                    "SELECT * FROM events WHERE status IN " + PUBLIC + KEYSET + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY")),
+            entry("findOwnOrPublishedPage", List.of(
+                    "SELECT * FROM events WHERE user_id = " + USER + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY",
+                    "SELECT * FROM events WHERE status IN " + PUBLIC + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY")),
+            entry("findOwnOrPublishedPageAfter", List.of(
+                    "SELECT * FROM events WHERE user_id = " + USER + KEYSET + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY",
+                    "SELECT * FROM events WHERE status IN " + PUBLIC + KEYSET + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY")),
+            entry("findPageByUserId", List.of(
+                    "SELECT * FROM events WHERE user_id = " + USER + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY")),
+            entry("findPageByUserIdAfter", List.of(
+                    "SELECT * FROM events WHERE user_id = " + USER + KEYSET + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY")),
+            entry("findPageInRange", List.of(
+                    "SELECT * FROM events WHERE status IN " + PUBLIC + " AND event_date >= " + FROM + " AND event_date < " + TO
+                            + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY")),
+            entry("findPageInRangeAfter", List.of(
+                    "SELECT * FROM events WHERE status IN " + PUBLIC + " AND event_date >= " + FROM + " AND event_date < " + TO
+                            + KEYSET + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY")),
+            entry("countPerDay", List.of(
+                    "SELECT CAST(event_date AS DATE), COUNT(*) FROM events WHERE status IN " + PUBLIC
+                            + " AND event_date >= " + FROM + " AND event_date < " + TO
+                            + " GROUP BY CAST(event_date AS DATE) ORDER BY CAST(event_date AS DATE)")),
+            entry("countFacetCells", List.of(
+                    "SELECT location, YEAR(event_date), MONTH(event_date), base_price, status, COUNT(*) FROM events"
+                            + " WHERE status IN " + PUBLIC
+                            + " GROUP BY location, YEAR(event_date), MONTH(event_date), base_price, status")),
+            entry("lockOwnedByIds", List.of(
+                    "SELECT * FROM events WHERE user_id = " + USER + " AND id IN (" + ID + ") FOR UPDATE")),
+            entry("lockByIds", List.of("SELECT * FROM events WHERE id IN (" + ID + ") FOR UPDATE")),
+            entry("lockOwnedInRange", List.of(
+                    "SELECT * FROM events WHERE user_id = " + USER + " AND event_date >= " + FROM + " AND event_date < " + TO
+                            + " FOR UPDATE")),
+            entry("transitionStatus", List.of(
+                    "UPDATE events SET status = 'CANCELLED', version = version + 1 WHERE id IN (" + ID + ") AND status IN "
+                            + PUBLIC)),
+            entry("deleteByIdsAndStatus", List.of("DELETE FROM events WHERE id IN (" + ID + ") AND status = 'DRAFT'")),
+            entry("streamForExport", List.of(
+                    "SELECT * FROM events WHERE status IN " + PUBLIC + " AND event_date >= " + FROM + " AND event_date < " + TO
+                            + " ORDER BY event_date, id")),
+            entry("streamForExportByUserId", List.of(
+                    "SELECT * FROM events WHERE user_id = " + USER + " AND status IN " + PUBLIC
+                            + " AND event_date >= " + FROM + " AND event_date < " + TO + " ORDER BY event_date, id")),
+            entry("streamForExportUntil", List.of(
+                    "SELECT * FROM events WHERE status IN " + PUBLIC + " AND event_date < " + TO
+                            + " ORDER BY event_date, id")),
+            entry("streamForExportByUserIdUntil", List.of(
+                    "SELECT * FROM events WHERE user_id = " + USER + " AND status IN " + PUBLIC
+                            + " AND event_date < " + TO + " ORDER BY event_date, id"))
+    );
+
+    // Shapes EventSpecifications produces for the combinations EventFilterService lets through.
+    private static final Map<String, List<String>> FILTER_QUERIES = Map.ofEntries(
+            entry("priceRangeByPrice", List.of(
+                    "SELECT * FROM events WHERE status IN " + PUBLIC + " AND base_price >= 100 AND base_price <= 300"
+                            + " ORDER BY base_price, id FETCH FIRST 51 ROWS ONLY")),
+            entry("priceKeysetByPriceDescending", List.of(
+                    "SELECT * FROM events WHERE status IN " + PUBLIC
+                            + " AND (base_price < 300 OR (base_price = 300 AND id < " + ID + "))"
+                            + " ORDER BY base_price DESC, id DESC FETCH FIRST 51 ROWS ONLY")),
+            entry("priceWithinDateRangeByDate", List.of(
+                    "SELECT * FROM events WHERE status IN " + PUBLIC + " AND event_date >= " + FROM + " AND event_date < " + TO
+                            + " AND base_price <= 300 ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY")),
+            entry("priceAtLocationByDate", List.of(
+                    "SELECT * FROM events WHERE location = 'Hall 7' AND status IN " + PUBLIC + " AND base_price >= 100"
+                            + " ORDER BY event_date, id FETCH FIRST 51 ROWS ONLY"))
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        // About five years of events spread over a few hundred organizers.
+        EventStatus[] statuses = EventStatus.values();
+        LocalDateTime start = LocalDateTime.of(2027, 1, 1, 9, 0);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(),
+                    "Event " + i,
+                    Timestamp.valueOf(start.plusHours(29L * i)),
+                    "Hall " + (i % 40),
+                    100.0 * (i % 7),
+                    statuses[i % statuses.length].name(),
+                    new UUID(0, i % 300)
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO events (id, title, event_date, location, base_price, status, user_id)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    void everyRepositoryQueryHasAPlanCheck() {
+        Set<String> declared = new TreeSet<>();
+        for (Method method : EventRepository.class.getDeclaredMethods()) {
+            if (!method.isDefault() && !method.isSynthetic()) {
+                declared.add(method.getName());
+            }
+        }
+
+        assertThat(QUERIES.keySet()).containsExactlyInAnyOrderElementsOf(declared);
+    }
+
+    @Test
+    void noRepositoryQueryScansTheWholeTable() {
+        assertNoTableScan(QUERIES);
+    }
+
+    @Test
+    void noAcceptedFilterCombinationScansTheWholeTable() {
+        assertNoTableScan(FILTER_QUERIES);
+    }
+
+    private void assertNoTableScan(Map<String, List<String>> queries) {
+        for (Map.Entry<String, List<String>> query : queries.entrySet()) {
+            for (String sql : query.getValue()) {
+                String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+                assertThat(plan)
+                        .as("%s should use an index but the plan was:%n%s", query.getKey(), plan)
+                        .doesNotContainIgnoringCase("tableScan");
+            }
+        }
+    }
+}
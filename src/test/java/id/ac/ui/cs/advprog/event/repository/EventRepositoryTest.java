@@ -1,6 +1,8 @@
 package id.ac.ui.cs.advprog.event.repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -9,9 +11,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import id.ac.ui.cs.advprog.event.dto.CalendarDayCount;
+import id.ac.ui.cs.advprog.event.dto.EventCursor;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.dto.FacetCell;
+import id.ac.ui.cs.advprog.event.dto.FilterCursor;
+import id.ac.ui.cs.advprog.event.enums.EventField;
+import id.ac.ui.cs.advprog.event.enums.EventSort;
 import id.ac.ui.cs.advprog.event.enums.EventStatus;
 import id.ac.ui.cs.advprog.event.model.Event;
 import id.ac.ui.cs.advprog.event.model.EventBuilder;
@@ -191,4 +203,191 @@ public class EventRepositoryTest {
                 .containsExactlyInAnyOrder(EventStatus.PUBLISHED, EventStatus.COMPLETED);
     }
 
+    @Test
+    void testFindPageByStatusIn_seeksPastCursorWithoutDuplicates() {
+        List<EventStatus> statuses = List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED);
+
+        List<EventSummary> firstPage = eventRepository.findPageByStatusIn(statuses, PageRequest.of(0, 1));
+        EventSummary last = firstPage.get(0);
+        List<EventSummary> secondPage = eventRepository.findPageByStatusInAfter(
+                statuses, last.getEventDate(), last.getId(), PageRequest.of(0, 10));
+
+        assertThat(firstPage).extracting(EventSummary::getTitle).containsExactly("Event 2");
+        assertThat(secondPage).extracting(EventSummary::getTitle).containsExactly("Event 1");
+    }
+
+    @Test
+    void testFindOwnOrPublishedPage_includesOwnDraftsInDateOrder() {
+        List<EventSummary> page = eventRepository.findOwnOrPublishedPage(
+                userId2, List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED), PageRequest.of(0, 10));
+
+        assertThat(page).extracting(EventSummary::getTitle).containsExactly("Event 2", "Event 1", "Event 3");
+    }
+
+    @Test
+    void testFindPageInRange_findsEventsAtAnyTimeOfDay() {
+        LocalDateTime dayStart = eventDate.toLocalDate().atStartOfDay();
+
+        List<EventSummary> page = eventRepository.findPageInRange(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED),
+                dayStart, dayStart.plusDays(1), PageRequest.of(0, 10));
+
+        assertThat(page).extracting(EventSummary::getTitle).containsExactly("Event 1");
+    }
+
+    @Test
+    void testCountPerDay_groupsByCalendarDate() {
+        LocalDateTime from = eventDate.toLocalDate().minusDays(2).atStartOfDay();
+        LocalDateTime to = eventDate.toLocalDate().plusDays(5).atStartOfDay();
+
+        List<CalendarDayCount> counts = eventRepository.countPerDay(
+                List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED, EventStatus.DRAFT), from, to);
+
+        assertThat(counts).extracting(CalendarDayCount::getDate).containsExactly(
+                eventDate.toLocalDate().minusDays(1), eventDate.toLocalDate(), eventDate.toLocalDate().plusDays(3));
+        assertThat(counts).extracting(CalendarDayCount::getCount).containsOnly(1L);
+    }
+
+    @Test
+    void testInsertAll_persistsEveryEventAcrossFlushBoundaries() {
+        List<Event> imported = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            imported.add(new EventBuilder()
+                    .setTitle("Imported " + i)
+                    .setEventDate(eventDate.plusHours(i))
+                    .setLocation("Hall")
+                    .setBasePrice(10.0)
+                    .setUserId(userId2)
+                    .build());
+        }
+
+        eventRepository.insertAll(imported);
+
+        assertThat(imported).allSatisfy(event -> assertThat(event.getId()).isNotNull());
+        assertThat(eventRepository.findByLocation("Hall")).hasSize(250);
+    }
+
+    @Test
+    void testTransitionStatus_onlyTouchesRowsInAllowedStatusesAndBumpsVersion() {
+        List<Event> owned = eventRepository.lockOwnedInRange(userId1, eventDate.minusDays(2), eventDate.plusDays(1));
+        List<UUID> ids = owned.stream().map(Event::getId).toList();
+
+        int updated = eventRepository.transitionStatus(ids, List.of(EventStatus.PUBLISHED),
+                EventStatus.CANCELLED, LocalDateTime.now());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(eventRepository.findAllById(ids)).extracting(Event::getStatus)
+                .containsExactlyInAnyOrder(EventStatus.CANCELLED, EventStatus.COMPLETED);
+        assertThat(eventRepository.findByLocation("Location 1").get(0).getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void testDeleteByIdsAndStatus_leavesNonMatchingStatuses() {
+        List<UUID> ids = eventRepository.findAll().stream().map(Event::getId).toList();
+
+        int deleted = eventRepository.deleteByIdsAndStatus(ids, EventStatus.PUBLISHED);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(eventRepository.findByStatus(EventStatus.PUBLISHED)).isEmpty();
+        assertThat(eventRepository.count()).isEqualTo(ids.size() - 1);
+    }
+
+    @Test
+    void testVersionIsBumpedOnUpdateAndReadableWithoutLoadingRow() {
+        Event event = eventRepository.findByLocation("Location 1").get(0);
+        assertThat(eventRepository.findVersionById(event.getId())).contains(0L);
+
+        event.setTitle("Renamed");
+        eventRepository.saveAndFlush(event);
+
+        assertThat(eventRepository.findVersionById(event.getId())).contains(1L);
+        assertThat(event.getUpdatedAt()).isNotNull();
+        assertThat(eventRepository.findVersionById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void testCountFacetCells_groupsPublicEventsOnly() {
+        List<FacetCell> cells = eventRepository.countFacetCells(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED));
+
+        long total = cells.stream().mapToLong(FacetCell::getCount).sum();
+        assertThat(total).isEqualTo(eventRepository.findByStatusIn(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED)).size());
+        assertThat(cells).allSatisfy(cell -> {
+            assertThat(cell.getYear()).isNotNull();
+            assertThat(cell.getMonth()).isBetween(1, 12);
+            assertThat(cell.getStatus()).isIn(EventStatus.PUBLISHED, EventStatus.COMPLETED);
+        });
+    }
+
+    @Test
+    void testSpecifications_filterByPriceAndSeekPastCursor() {
+        Specification<Event> visible = EventSpecifications.visibleTo(userId2, List.of(EventStatus.values()),
+                List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED));
+        Specification<Event> spec = visible.and(EventSpecifications.priceAtLeast(60.0));
+        Sort byPrice = Sort.by(Sort.Direction.DESC, "basePrice", "id");
+
+        List<EventSummary> firstPage = eventRepository.findSummaries(spec, byPrice, 1);
+        FilterCursor cursor = FilterCursor.of(EventSort.PRICE, firstPage.get(0));
+        List<EventSummary> secondPage = eventRepository.findSummaries(
+                spec.and(EventSpecifications.after(cursor, true)), byPrice, 10);
+
+        assertThat(firstPage).extracting(EventSummary::getTitle).containsExactly("Event 3");
+        assertThat(secondPage).extracting(EventSummary::getTitle).containsExactly("Event 2");
+        assertThat(secondPage.get(0).getBasePrice()).isEqualTo(70.0);
+    }
+
+    @Test
+    void testSpecifications_hideOtherUsersDrafts() {
+        Specification<Event> spec = EventSpecifications.visibleTo(userId1, List.of(EventStatus.values()),
+                List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED));
+
+        assertThat(eventRepository.findAll(spec)).extracting(Event::getTitle)
+                .containsExactlyInAnyOrder("Event 1", "Event 2");
+    }
+
+    @Test
+    void testFindPartial_loadsOnlySelectedColumnsInKeysetOrder() {
+        Specification<Event> spec = EventSpecifications.ownedBy(userId1);
+
+        List<Event> rows = eventRepository.findPartial(spec, EnumSet.of(EventField.TITLE), Sort.by("eventDate", "id"), 10);
+
+        assertThat(rows).extracting(Event::getTitle).containsExactly("Event 2", "Event 1");
+        assertThat(rows).allSatisfy(event -> {
+            assertThat(event.getId()).isNotNull();
+            assertThat(event.getEventDate()).isNotNull();
+            assertThat(event.getDescription()).isNull();
+            assertThat(event.getLocation()).isNull();
+            assertThat(event.getUserId()).isNull();
+        });
+    }
+
+    @Test
+    void testFindPartial_resumesAfterCatalogCursor() {
+        Specification<Event> visible = EventSpecifications.ownOrStatusIn(userId2,
+                List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED));
+        Sort keyset = Sort.by("eventDate", "id");
+
+        Event first = eventRepository.findPartial(visible, EnumSet.of(EventField.TITLE), keyset, 1).get(0);
+        List<Event> rest = eventRepository.findPartial(
+                visible.and(EventSpecifications.after(new EventCursor(first.getEventDate(), first.getId()))),
+                EnumSet.of(EventField.TITLE), keyset, 10);
+
+        assertThat(first.getTitle()).isEqualTo("Event 2");
+        assertThat(rest).extracting(Event::getTitle).containsExactly("Event 1", "Event 3");
+    }
+
+    @Test
+    void testForEachId_visitsEveryEvent() {
+        List<UUID> ids = new ArrayList<>();
+
+        eventRepository.forEachId(ids::add);
+
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(
+                eventRepository.findAll().stream().map(Event::getId).toList());
+    }
+
+    @Test
+    void testFullTextSearchIsOnlyReportedForPostgres() {
+        // H2 has no tsvector; EventSearchService ranks in process instead.
+        assertThat(eventRepository.supportsFullTextSearch()).isFalse();
+    }
+
 }
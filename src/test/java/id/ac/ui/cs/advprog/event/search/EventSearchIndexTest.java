@@ -0,0 +1,176 @@
+package id.ac.ui.cs.advprog.event.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import id.ac.ui.cs.advprog.event.dto.EventSearchHit;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.model.EventState;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EventSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 19, 0);
+
+    private EventRepository eventRepository;
+    private SimpleMeterRegistry registry;
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        registry = new SimpleMeterRegistry();
+        index = new EventSearchIndex(eventRepository, registry);
+    }
+
+    @Test
+    void rebuild_loadsPublicEventsFromRepository() {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle("Jazz Night");
+        event.setLocation("Jakarta");
+        event.setEventDate(BASE);
+        event.setStatus(EventStatus.PUBLISHED);
+        when(eventRepository.findByStatusIn(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED)))
+                .thenReturn(List.of(event));
+
+        index.rebuild();
+
+        assertEquals(1, index.size());
+        assertEquals(event.getId(), index.search("jazz", null, null, null, 10).get(0).id());
+        assertTrue(registry.get("search.index.memory").gauge().value() > 0);
+    }
+
+    @Test
+    void rebuild_replaysChangesCommittedWhileReadingTheTable() {
+        EventState stale = new EventState(UUID.randomUUID(), "Jazz Night", null, BASE, "Jakarta",
+                0, EventStatus.PUBLISHED, null);
+        EventState renamed = new EventState(stale.id(), "Blues Night", null, BASE, "Jakarta",
+                0, EventStatus.PUBLISHED, null);
+        Event staleRow = new Event();
+        staleRow.setId(stale.id());
+        staleRow.setTitle(stale.title());
+        staleRow.setLocation(stale.location());
+        staleRow.setEventDate(stale.eventDate());
+        staleRow.setStatus(stale.status());
+        when(eventRepository.findByStatusIn(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED)))
+                .thenAnswer(invocation -> {
+                    index.onEventChanged(new EventChangedEvent(stale, renamed));
+                    return List.of(staleRow);
+                });
+
+        index.rebuild();
+
+        assertEquals(List.of(), index.search("jazz", null, null, null, 10));
+        assertEquals(List.of(stale.id()), ids(index.search("blues", null, null, null, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void rebuild_failedReadKeepsTheCurrentIndexWithoutThrowing() {
+        EventState jazz = add("Jazz Night", "Jakarta", 1, EventStatus.PUBLISHED);
+        when(eventRepository.findByStatusIn(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        index.rebuild();
+
+        assertEquals(List.of(jazz.id()), ids(index.search("jazz", null, null, null, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void memoryGauge_tracksWritesIncrementally() {
+        EventState event = add("Jazz Night", "Jakarta", 1, EventStatus.PUBLISHED);
+        long withEvent = index.estimatedBytes();
+
+        index.onEventChanged(new EventChangedEvent(event, event.withStatus(EventStatus.CANCELLED)));
+
+        assertTrue(index.estimatedBytes() < withEvent);
+        assertEquals(index.estimatedBytes(), (long) registry.get("search.index.memory").gauge().value());
+    }
+
+    @Test
+    void search_supportsAndOrAndReturnsSoonestFirst() {
+        EventState jakartaJazz = add("Jazz Night", "Jakarta", 3, EventStatus.PUBLISHED);
+        EventState bandungJazz = add("Jazz Brunch", "Bandung", 1, EventStatus.PUBLISHED);
+        add("Rock Fest", "Jakarta", 2, EventStatus.PUBLISHED);
+
+        assertEquals(List.of(bandungJazz.id(), jakartaJazz.id()), ids(index.search("JAZZ", null, null, null, 10)));
+        assertEquals(List.of(jakartaJazz.id()), ids(index.search("jazz jakarta", null, null, null, 10)));
+        assertEquals(List.of(bandungJazz.id(), jakartaJazz.id()),
+                ids(index.search("jazz jakarta OR brunch", null, null, null, 10)));
+        assertEquals(List.of(), index.search("jazz surabaya", null, null, null, 10));
+    }
+
+    @Test
+    void search_filtersByStatusAndDateRange() {
+        EventState published = add("Jazz Night", "Jakarta", 1, EventStatus.PUBLISHED);
+        EventState completed = add("Jazz Night", "Jakarta", 10, EventStatus.COMPLETED);
+
+        assertEquals(List.of(completed.id()),
+                ids(index.search("jazz", List.of(EventStatus.COMPLETED), null, null, 10)));
+        assertEquals(List.of(published.id()),
+                ids(index.search("jazz", null, BASE, BASE.plusDays(5), 10)));
+    }
+
+    @Test
+    void onEventChanged_reindexesUpdatesAndDropsUnpublishedEvents() {
+        EventState original = add("Jazz Night", "Jakarta", 1, EventStatus.PUBLISHED);
+        EventState renamed = new EventState(original.id(), "Blues Night", null, original.eventDate(), "Jakarta",
+                0, EventStatus.PUBLISHED, null);
+        index.onEventChanged(new EventChangedEvent(original, renamed));
+
+        assertEquals(List.of(), index.search("jazz", null, null, null, 10));
+        assertEquals(List.of(original.id()), ids(index.search("blues", null, null, null, 10)));
+
+        index.onEventChanged(new EventChangedEvent(renamed, renamed.withStatus(EventStatus.CANCELLED)));
+
+        assertEquals(List.of(), index.search("blues", null, null, null, 10));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void onEventChanged_ignoresDrafts() {
+        add("Jazz Night", "Jakarta", 1, EventStatus.DRAFT);
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void compaction_keepsResultsAfterManyUpdates() {
+        EventState event = add("Jazz Night", "Jakarta", 1, EventStatus.PUBLISHED);
+        for (int i = 0; i < 3000; i++) {
+            EventState next = new EventState(event.id(), "Jazz Night " + i, null, event.eventDate(), "Jakarta",
+                    0, EventStatus.PUBLISHED, null);
+            index.onEventChanged(new EventChangedEvent(event, next));
+            event = next;
+        }
+
+        assertEquals(List.of(event.id()), ids(index.search("jazz 2999", null, null, null, 10)));
+        assertEquals(List.of(), index.search("1500", null, null, null, 10));
+        assertEquals(1, index.size());
+    }
+
+    private EventState add(String title, String location, int daysAhead, EventStatus status) {
+        EventState state = new EventState(UUID.randomUUID(), title, null, BASE.plusDays(daysAhead), location,
+                0, status, UUID.randomUUID());
+        index.onEventChanged(new EventChangedEvent(null, state));
+        return state;
+    }
+
+    private static List<UUID> ids(List<EventSearchHit> hits) {
+        return hits.stream().map(EventSearchHit::id).toList();
+    }
+}
@@ -0,0 +1,153 @@
+package id.ac.ui.cs.advprog.event.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import id.ac.ui.cs.advprog.event.dto.EventSuggestion;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.model.EventState;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+
+class EventSuggestionIndexTest {
+
+    private EventRepository eventRepository;
+    private EventSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        index = new EventSuggestionIndex(eventRepository);
+    }
+
+    @Test
+    void suggest_matchesNormalizedPrefixesOfAnyTitleWord() {
+        EventState jazz = add("Jazz Night", "Jakarta", LocalDateTime.now().plusDays(5), EventStatus.PUBLISHED);
+        EventState market = add("Night Market", "Depok", LocalDateTime.now().plusDays(2), EventStatus.PUBLISHED);
+        add("Caf\u00e9 Concert", "Bandung", LocalDateTime.now().plusDays(1), EventStatus.PUBLISHED);
+
+        List<EventSuggestion> night = index.suggest("  NIGH", 10);
+        assertEquals(List.of(market.id(), jazz.id()), night.stream().map(EventSuggestion::eventId).toList());
+        assertEquals("Caf\u00e9 Concert", index.suggest("cafe", 10).get(0).text());
+    }
+
+    @Test
+    void suggest_ranksUpcomingBeforePastAndDeduplicatesLocations() {
+        add("Jakarta Fair", "Jakarta", LocalDateTime.now().minusDays(30), EventStatus.COMPLETED);
+        add("Jazz Night", "Jakarta", LocalDateTime.now().plusDays(10), EventStatus.PUBLISHED);
+        add("Rock Fest", "jakarta ", LocalDateTime.now().plusDays(3), EventStatus.PUBLISHED);
+
+        List<EventSuggestion> suggestions = index.suggest("jak", 10);
+
+        assertEquals(2, suggestions.size());
+        assertEquals("location", suggestions.get(0).type());
+        assertNull(suggestions.get(0).eventId());
+        assertEquals("Jakarta Fair", suggestions.get(1).text());
+    }
+
+    @Test
+    void suggest_respectsLimitAndIgnoresEmptyPrefix() {
+        for (int i = 0; i < 20; i++) {
+            add("Workshop " + i, "Depok", LocalDateTime.now().plusDays(i + 1), EventStatus.PUBLISHED);
+        }
+
+        assertEquals(5, index.suggest("work", 5).size());
+        assertEquals("Workshop 0", index.suggest("work", 5).get(0).text());
+        assertEquals(List.of(), index.suggest(" - ", 5));
+    }
+
+    @Test
+    void suggest_ranksSoonestEventsForPrefixesMatchingMostOfTheCatalog() {
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        // Later titles sort later by key but happen sooner, so a key-order scan cut short would miss them.
+        for (int i = 0; i < 2500; i++) {
+            add(String.format("Workshop %04d", i), "Depok", base.plusHours(2500 - i), EventStatus.PUBLISHED);
+        }
+        add("Workshop Retro", "Depok", LocalDateTime.now().minusDays(3), EventStatus.COMPLETED);
+
+        List<EventSuggestion> suggestions = index.suggest("wo", 3);
+
+        assertEquals(List.of("Workshop 2499", "Workshop 2498", "Workshop 2497"),
+                suggestions.stream().map(EventSuggestion::text).toList());
+    }
+
+    @Test
+    void onEventChanged_replacesAndRemovesEntries() {
+        EventState original = add("Jazz Night", "Jakarta", LocalDateTime.now().plusDays(5), EventStatus.PUBLISHED);
+        EventState renamed = new EventState(original.id(), "Blues Night", null, original.eventDate(), "Jakarta",
+                0, EventStatus.PUBLISHED, null);
+        index.onEventChanged(new EventChangedEvent(original, renamed));
+
+        assertEquals(List.of(), index.suggest("jazz", 5));
+        assertEquals("Blues Night", index.suggest("blu", 5).get(0).text());
+
+        index.onEventChanged(new EventChangedEvent(renamed, null));
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void rebuild_loadsPublicEvents() {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle("Jazz Night");
+        event.setLocation("Jakarta");
+        event.setEventDate(LocalDateTime.now().plusDays(1));
+        event.setStatus(EventStatus.PUBLISHED);
+        when(eventRepository.findByStatusIn(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED)))
+                .thenReturn(List.of(event));
+
+        index.rebuild();
+
+        assertEquals(event.getId(), index.suggest("ja", 5).stream()
+                .filter(suggestion -> "title".equals(suggestion.type()))
+                .findFirst().orElseThrow().eventId());
+    }
+
+    @Test
+    void rebuild_failedReadKeepsTheCurrentEntriesWithoutThrowing() {
+        EventState jazz = add("Jazz Night", "Jakarta", LocalDateTime.now().plusDays(5), EventStatus.PUBLISHED);
+        when(eventRepository.findByStatusIn(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        index.rebuild();
+
+        assertEquals(jazz.id(), index.suggest("jazz", 10).get(0).eventId());
+    }
+
+    @Test
+    void rebuild_replaysChangesCommittedWhileReadingTheTable() {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle("Jazz Night");
+        event.setLocation("Jakarta");
+        event.setEventDate(LocalDateTime.now().plusDays(1));
+        event.setStatus(EventStatus.PUBLISHED);
+        EventState stale = EventState.of(event);
+        when(eventRepository.findByStatusIn(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED)))
+                .thenAnswer(invocation -> {
+                    index.onEventChanged(new EventChangedEvent(stale, stale.withStatus(EventStatus.CANCELLED)));
+                    return List.of(event);
+                });
+
+        index.rebuild();
+
+        assertEquals(0, index.size());
+    }
+
+    private EventState add(String title, String location, LocalDateTime date, EventStatus status) {
+        EventState state = new EventState(UUID.randomUUID(), title, null, date, location, 0, status, UUID.randomUUID());
+        index.onEventChanged(new EventChangedEvent(null, state));
+        return state;
+    }
+}
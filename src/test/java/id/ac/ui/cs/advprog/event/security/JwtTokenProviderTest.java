@@ -0,0 +1,87 @@
+package id.ac.ui.cs.advprog.event.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-jwt-secret-key-for-testing-only-must-be-at-least-256-bits-long";
+    private static final String OTHER_SECRET = "another-jwt-secret-key-for-testing-only-must-be-at-least-256-bits";
+
+    private VerifiedTokenCache tokenCache;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenCache = new VerifiedTokenCache(100, 900, new SimpleMeterRegistry());
+        jwtTokenProvider = new JwtTokenProvider(SECRET, tokenCache);
+    }
+
+    @Test
+    void resolvePrincipal_returnsSubjectRoleAndExpiry() {
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        String token = token("user-1", "role", "Organizer", expiration, SECRET);
+
+        JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(token);
+
+        assertNotNull(principal);
+        assertEquals("user-1", principal.subject());
+        assertEquals("Organizer", principal.role());
+        assertEquals(expiration.getTime() / 1000, principal.expiresAt().getEpochSecond());
+    }
+
+    @Test
+    void resolvePrincipal_fallsBackToUppercaseRoleClaim() {
+        String token = token("user-1", "ROLE", "Organizer", new Date(System.currentTimeMillis() + 60_000), SECRET);
+
+        assertEquals("Organizer", jwtTokenProvider.resolvePrincipal(token).role());
+    }
+
+    @Test
+    void resolvePrincipal_repeatedTokenIsServedFromCache() {
+        String token = token("user-1", "role", "Organizer", new Date(System.currentTimeMillis() + 60_000), SECRET);
+
+        JwtPrincipal first = jwtTokenProvider.resolvePrincipal(token);
+        JwtPrincipal second = jwtTokenProvider.resolvePrincipal(token);
+
+        assertEquals(first, second);
+        assertEquals(1, tokenCache.stats().missCount());
+        assertEquals(1, tokenCache.stats().hitCount());
+    }
+
+    @Test
+    void resolvePrincipal_invalidSignatureIsRejectedAndNotCached() {
+        String token = token("user-1", "role", "Organizer", new Date(System.currentTimeMillis() + 60_000), OTHER_SECRET);
+
+        assertNull(jwtTokenProvider.resolvePrincipal(token));
+        assertNull(jwtTokenProvider.resolvePrincipal(token));
+        assertEquals(0, tokenCache.stats().hitCount());
+    }
+
+    @Test
+    void resolvePrincipal_expiredTokenIsRejected() {
+        String token = token("user-1", "role", "Organizer", new Date(System.currentTimeMillis() - 60_000), SECRET);
+
+        assertNull(jwtTokenProvider.resolvePrincipal(token));
+    }
+
+    private String token(String subject, String roleClaim, String role, Date expiration, String secret) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim(roleClaim, role)
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,133 @@
+package id.ac.ui.cs.advprog.event.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import id.ac.ui.cs.advprog.event.dto.BulkTransitionRequest;
+import id.ac.ui.cs.advprog.event.dto.BulkTransitionResult;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+
+class EventBulkServiceTest {
+
+    private EventRepository eventRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private EventBulkService eventBulkService;
+    private UUID ownerId;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        eventBulkService = new EventBulkService(eventRepository, eventPublisher, 1000);
+        ownerId = UUID.randomUUID();
+    }
+
+    @Test
+    void transition_cancelsEligibleEventsWithOneUpdateAndReportsTheRest() {
+        Event draft = event(EventStatus.DRAFT, LocalDateTime.now().plusMonths(6));
+        Event alreadyCancelled = event(EventStatus.CANCELLED, LocalDateTime.now().plusMonths(6));
+        UUID missing = UUID.randomUUID();
+        when(eventRepository.lockOwnedByIds(eq(ownerId), anyCollection())).thenReturn(List.of(draft, alreadyCancelled));
+
+        BulkTransitionResult result = eventBulkService.transition(ownerId,
+                BulkTransitionRequest.builder().ids(List.of(draft.getId(), alreadyCancelled.getId(), missing)).build(),
+                EventStatus.CANCELLED);
+
+        assertEquals(List.of(draft.getId()), result.getTransitioned());
+        assertEquals("Event is already CANCELLED", result.getRejected().get(alreadyCancelled.getId()));
+        assertEquals("Event not found", result.getRejected().get(missing));
+        verify(eventRepository, times(1)).transitionStatus(eq(List.of(draft.getId())), anyCollection(),
+                eq(EventStatus.CANCELLED), any(LocalDateTime.class));
+        verify(eventPublisher, times(1)).publishEvent(any(EventChangedEvent.class));
+    }
+
+    @Test
+    void transition_publishAppliesTheThreeMonthRule() {
+        Event tooSoon = event(EventStatus.DRAFT, LocalDateTime.now().plusMonths(1));
+        Event past = event(EventStatus.DRAFT, LocalDateTime.now().minusDays(1));
+        Event ok = event(EventStatus.DRAFT, LocalDateTime.now().plusMonths(4));
+        LocalDateTime from = LocalDateTime.now().minusYears(1);
+        LocalDateTime to = LocalDateTime.now().plusYears(1);
+        when(eventRepository.lockOwnedInRange(ownerId, from, to)).thenReturn(List.of(tooSoon, past, ok));
+
+        BulkTransitionResult result = eventBulkService.transition(ownerId,
+                BulkTransitionRequest.builder().from(from).to(to).build(), EventStatus.PUBLISHED);
+
+        assertEquals(List.of(ok.getId()), result.getTransitioned());
+        assertEquals("Event must be scheduled at least 3 months from now to be published",
+                result.getRejected().get(tooSoon.getId()));
+        assertEquals("Cannot publish event with a past date", result.getRejected().get(past.getId()));
+    }
+
+    @Test
+    void transition_nothingEligibleIssuesNoUpdate() {
+        Event completed = event(EventStatus.COMPLETED, LocalDateTime.now().minusDays(3));
+        when(eventRepository.lockOwnedByIds(eq(ownerId), anyCollection())).thenReturn(List.of(completed));
+
+        BulkTransitionResult result = eventBulkService.transition(ownerId,
+                BulkTransitionRequest.builder().ids(List.of(completed.getId())).build(), EventStatus.COMPLETED);
+
+        assertEquals(List.of(), result.getTransitioned());
+        verify(eventRepository, never()).transitionStatus(anyCollection(), anyCollection(), any(), any());
+    }
+
+    @Test
+    void transition_requiresExactlyOneSelector() {
+        BulkTransitionRequest both = BulkTransitionRequest.builder()
+                .ids(List.of(UUID.randomUUID()))
+                .from(LocalDateTime.now())
+                .to(LocalDateTime.now().plusDays(1))
+                .build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> eventBulkService.transition(ownerId, both, EventStatus.CANCELLED));
+        assertThrows(IllegalArgumentException.class,
+                () -> eventBulkService.transition(ownerId, new BulkTransitionRequest(), EventStatus.CANCELLED));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void deleteDrafts_onlyDeletesDrafts() {
+        Event draft = event(EventStatus.DRAFT, LocalDateTime.now().plusDays(10));
+        Event published = event(EventStatus.PUBLISHED, LocalDateTime.now().plusDays(10));
+        when(eventRepository.lockOwnedByIds(eq(ownerId), anyCollection())).thenReturn(List.of(draft, published));
+
+        BulkTransitionResult result = eventBulkService.deleteDrafts(ownerId,
+                BulkTransitionRequest.builder().ids(List.of(draft.getId(), published.getId())).build());
+
+        assertEquals(List.of(draft.getId()), result.getTransitioned());
+        assertEquals("Only draft events can be deleted in bulk", result.getRejected().get(published.getId()));
+        verify(eventRepository).deleteByIdsAndStatus(List.of(draft.getId()), EventStatus.DRAFT);
+    }
+
+    private Event event(EventStatus status, LocalDateTime eventDate) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle("Event");
+        event.setEventDate(eventDate);
+        event.setLocation("Jakarta");
+        event.setStatus(status);
+        event.setUserId(ownerId);
+        return event;
+    }
+}
@@ -0,0 +1,154 @@
+package id.ac.ui.cs.advprog.event.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import id.ac.ui.cs.advprog.event.dto.EventExportFilter;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.enums.ExportFormat;
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+
+class EventExportServiceTest {
+
+    private EventRepository eventRepository;
+    private EntityManager entityManager;
+    private ObjectMapper objectMapper;
+    private EventExportService eventExportService;
+    private UUID organizerId;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        entityManager = mock(EntityManager.class);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        eventExportService = new EventExportService(eventRepository, entityManager, objectMapper);
+        organizerId = UUID.randomUUID();
+    }
+
+    @Test
+    void export_ndjsonWritesOneObjectPerLineAndDetachesRows() throws Exception {
+        Event first = event("Concert", "Jakarta");
+        Event second = event("Seminar", "Depok");
+        when(eventRepository.streamForExportUntil(eq(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED)), any()))
+                .thenReturn(Stream.of(first, second));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        eventExportService.export(new EventExportFilter(null, null, null, null), null, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode firstLine = objectMapper.readTree(lines[0]);
+        assertEquals("Concert", firstLine.get("title").asText());
+        assertEquals("2030-01-02T19:30:00", firstLine.get("event_date").asText());
+        assertEquals("Seminar", objectMapper.readTree(lines[1]).get("title").asText());
+        verify(entityManager, times(2)).detach(any(Event.class));
+    }
+
+    @Test
+    void export_csvQuotesValuesContainingSeparators() throws Exception {
+        Event event = event("Jazz, Blues & \"Soul\"", "Jakarta");
+        when(eventRepository.streamForExportUntil(any(), any())).thenReturn(Stream.of(event));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        eventExportService.export(new EventExportFilter(null, null, null, null), null, ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,title,description,event_date,location,base_price,status,user_id", lines[0]);
+        assertEquals(event.getId() + ",\"Jazz, Blues & \"\"Soul\"\"\",Live music,2030-01-02T19:30:00,Jakarta,150000.0,PUBLISHED,"
+                + organizerId, lines[1]);
+    }
+
+    @Test
+    void export_organizerExportingOwnEventsSeesAllRequestedStatuses() throws Exception {
+        when(eventRepository.streamForExportByUserIdUntil(eq(organizerId), eq(List.of(EventStatus.DRAFT)), any()))
+                .thenReturn(Stream.empty());
+
+        EventExportFilter filter = new EventExportFilter(List.of(EventStatus.DRAFT), organizerId, null, null);
+        eventExportService.export(filter, organizerId, ExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        verify(eventRepository).streamForExportByUserIdUntil(eq(organizerId), eq(List.of(EventStatus.DRAFT)), any());
+    }
+
+    @Test
+    void export_otherUsersDraftsAreNeverQueried() throws Exception {
+        EventExportFilter filter = new EventExportFilter(List.of(EventStatus.DRAFT), organizerId, null, null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        eventExportService.export(filter, UUID.randomUUID(), ExportFormat.NDJSON, out);
+
+        assertEquals(0, out.size());
+        verify(eventRepository, never()).streamForExportByUserId(any(), any(), any(), any());
+        verify(eventRepository, never()).streamForExportByUserIdUntil(any(), any(), any());
+    }
+
+    @Test
+    void export_csvWritesLargePricesInPlainNotation() throws Exception {
+        Event event = event("Gala", "Jakarta");
+        event.setBasePrice(10_000_000.0);
+        when(eventRepository.streamForExportUntil(any(), any())).thenReturn(Stream.of(event));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        eventExportService.export(new EventExportFilter(null, null, null, null), null, ExportFormat.CSV, out);
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains(",Jakarta,10000000,PUBLISHED,"));
+    }
+
+    @Test
+    void export_appliesALowerBoundOnlyWhenGiven() throws Exception {
+        LocalDateTime from = LocalDateTime.of(1950, 1, 1, 0, 0);
+        when(eventRepository.streamForExport(any(), eq(from), any())).thenReturn(Stream.empty());
+
+        eventExportService.export(new EventExportFilter(null, null, from, null), null, ExportFormat.CSV,
+                new ByteArrayOutputStream());
+        eventExportService.export(new EventExportFilter(null, null, null, null), null, ExportFormat.CSV,
+                new ByteArrayOutputStream());
+
+        verify(eventRepository).streamForExport(any(), eq(from), any());
+        verify(eventRepository).streamForExportUntil(any(), any());
+    }
+
+    @Test
+    void export_rejectsEmptyDateRange() {
+        LocalDateTime at = LocalDateTime.of(2030, 1, 1, 0, 0);
+        EventExportFilter filter = new EventExportFilter(null, null, at, at);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> eventExportService.export(filter, null, ExportFormat.CSV, new ByteArrayOutputStream()));
+    }
+
+    private Event event(String title, String location) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle(title);
+        event.setDescription("Live music");
+        event.setEventDate(LocalDateTime.of(2030, 1, 2, 19, 30));
+        event.setLocation(location);
+        event.setBasePrice(150000.0);
+        event.setStatus(EventStatus.PUBLISHED);
+        event.setUserId(organizerId);
+        return event;
+    }
+}
@@ -0,0 +1,123 @@
+package id.ac.ui.cs.advprog.event.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventFilter;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.dto.FilterCursor;
+import id.ac.ui.cs.advprog.event.enums.EventSort;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+
+class EventFilterServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private EventRepository eventRepository;
+    private EventFilterService eventFilterService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        eventFilterService = new EventFilterService(eventRepository, 2, 100, 366);
+    }
+
+    @Test
+    void filter_returnsCursorOfLastRowWhenMoreRowsExist() {
+        EventSummary first = event(100);
+        EventSummary second = event(200);
+        when(eventRepository.findSummaries(any(), any(), anyInt())).thenReturn(List.of(first, second, event(300)));
+
+        CursorPage<EventSummary> page = eventFilterService.filter(filter(EventSort.PRICE, 50.0, 500.0, null, null, null), null, null, null);
+
+        assertEquals(List.of(first, second), page.getItems());
+        FilterCursor cursor = FilterCursor.decode(page.getNextCursor());
+        assertEquals(EventSort.PRICE, cursor.sort());
+        assertEquals(200, cursor.basePrice());
+        assertEquals(second.getId(), cursor.id());
+    }
+
+    @Test
+    void filter_lastPageHasNoCursor() {
+        when(eventRepository.findSummaries(any(), any(), anyInt())).thenReturn(List.of(event(100)));
+
+        CursorPage<EventSummary> page = eventFilterService.filter(filter(EventSort.DATE, null, null, null, null, null), null, null, null);
+
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void filter_rejectsPriceRangeSortedByDateWithoutBound() {
+        EventFilter unbounded = filter(EventSort.DATE, 0.0, 100000.0, null, FROM, null);
+
+        assertThrows(IllegalArgumentException.class, () -> eventFilterService.filter(unbounded, null, null, null));
+        verify(eventRepository, never()).findSummaries(any(), any(), anyInt());
+    }
+
+    @Test
+    void filter_acceptsPriceRangeSortedByDateWithinLocationOrShortRange() {
+        when(eventRepository.findSummaries(any(), any(), anyInt())).thenReturn(List.of());
+
+        eventFilterService.filter(filter(EventSort.DATE, 0.0, 100000.0, "Jakarta", null, null), null, null, null);
+        eventFilterService.filter(filter(EventSort.DATE, 0.0, 100000.0, null, FROM, FROM.plusMonths(3)), null, null, null);
+    }
+
+    @Test
+    void filter_rejectsDateRangeSortedByPriceLongerThanLimit() {
+        EventFilter tooLong = filter(EventSort.PRICE, null, null, null, FROM, FROM.plusYears(2));
+
+        assertThrows(IllegalArgumentException.class, () -> eventFilterService.filter(tooLong, null, null, null));
+    }
+
+    @Test
+    void filter_rejectsCursorFromAnotherSort() {
+        String dateCursor = FilterCursor.of(EventSort.DATE, event(100)).encode();
+        EventFilter byPrice = filter(EventSort.PRICE, null, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> eventFilterService.filter(byPrice, null, dateCursor, null));
+    }
+
+    @Test
+    void filter_rejectsInvertedPriceRange() {
+        EventFilter inverted = filter(EventSort.PRICE, 500.0, 100.0, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> eventFilterService.filter(inverted, null, null, null));
+    }
+
+    @Test
+    void filter_anonymousDraftsOnlyNeverQueries() {
+        EventFilter drafts = new EventFilter(List.of(EventStatus.DRAFT), null, null, null, null, null, EventSort.DATE, false);
+
+        CursorPage<EventSummary> page = eventFilterService.filter(drafts, null, null, null);
+
+        assertTrue(page.getItems().isEmpty());
+        verify(eventRepository, never()).findSummaries(any(), any(), anyInt());
+    }
+
+    private static EventFilter filter(EventSort sort, Double minPrice, Double maxPrice, String location,
+                                      LocalDateTime from, LocalDateTime to) {
+        return new EventFilter(null, location, minPrice, maxPrice, from, to, sort, false);
+    }
+
+    private static EventSummary event(double price) {
+        return new EventSummary(UUID.randomUUID(), "Event", FROM.plusDays((long) price), "Jakarta", price,
+                EventStatus.PUBLISHED);
+    }
+}
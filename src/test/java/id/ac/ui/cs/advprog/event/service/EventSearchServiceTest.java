@@ -0,0 +1,120 @@
+package id.ac.ui.cs.advprog.event.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.model.Event;
+import id.ac.ui.cs.advprog.event.repository.EventRepository;
+
+class EventSearchServiceTest {
+
+    private static final List<EventStatus> PUBLIC = List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED);
+
+    private EventRepository eventRepository;
+    private EventSearchService eventSearchService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        eventSearchService = new EventSearchService(eventRepository, 2, 100);
+    }
+
+    @Test
+    void search_fallbackRanksTitleAboveLocationAboveDescription() {
+        Event inDescription = event("Seminar", "Depok", "A jazz evening", 1);
+        Event inLocation = event("Seminar", "Jazz Hall", "Talks", 2);
+        Event inTitle = event("Jazz Night", "Jakarta", "Live music", 3);
+        Event unrelated = event("Rock Fest", "Bandung", "Guitars", 0);
+        when(eventRepository.supportsFullTextSearch()).thenReturn(false);
+        when(eventRepository.findByStatusIn(PUBLIC)).thenReturn(List.of(inDescription, inLocation, inTitle, unrelated));
+
+        CursorPage<EventSummary> first = eventSearchService.search("JAZZ", null, null, null);
+        assertEquals(summaries(inTitle, inLocation), first.getItems());
+        assertNotNull(first.getNextCursor());
+
+        CursorPage<EventSummary> second = eventSearchService.search("jazz", null, first.getNextCursor(), null);
+        assertEquals(summaries(inDescription), second.getItems());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void search_fallbackRequiresEveryTermAndUsesOwnOrPublishedVisibility() {
+        UUID userId = UUID.randomUUID();
+        Event both = event("Jazz Night", "Jakarta", null, 1);
+        Event onlyOne = event("Jazz Night", "Depok", null, 2);
+        when(eventRepository.supportsFullTextSearch()).thenReturn(false);
+        when(eventRepository.findOwnOrPublishedEvents(userId, PUBLIC)).thenReturn(List.of(both, onlyOne));
+
+        CursorPage<EventSummary> page = eventSearchService.search("jazz jakarta", userId, null, 10);
+
+        assertEquals(summaries(both), page.getItems());
+        verify(eventRepository, never()).findByStatusIn(any());
+    }
+
+    @Test
+    void search_usesRankedDatabaseQueryWhenAvailable() {
+        UUID userId = UUID.randomUUID();
+        Event first = event("Jazz Night", "Jakarta", null, 1);
+        Event second = event("Jazz Brunch", "Jakarta", null, 2);
+        Event third = event("Jazz Camp", "Jakarta", null, 3);
+        when(eventRepository.supportsFullTextSearch()).thenReturn(true);
+        when(eventRepository.searchRanked("jazz -rock", userId, PUBLIC, 0, 3)).thenReturn(List.of(first, second, third));
+
+        CursorPage<EventSummary> page = eventSearchService.search(" jazz -rock ", userId, null, null);
+
+        assertEquals(summaries(first, second), page.getItems());
+        assertNotNull(page.getNextCursor());
+        verify(eventRepository, never()).findOwnOrPublishedEvents(any(), any());
+    }
+
+    @Test
+    void search_rejectsBlankQueriesAndBadCursors() {
+        assertThrows(IllegalArgumentException.class, () -> eventSearchService.search("  ", null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> eventSearchService.search("jazz", null, "not-a-cursor", null));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void search_refusesPagesBeyondTheOffsetCap() {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("o5000".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> eventSearchService.search("jazz", null, cursor, null));
+        verifyNoInteractions(eventRepository);
+    }
+
+    private Event event(String title, String location, String description, int daysAhead) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setTitle(title);
+        event.setLocation(location);
+        event.setDescription(description);
+        event.setEventDate(LocalDateTime.of(2030, 1, 1, 10, 0).plusDays(daysAhead));
+        event.setStatus(EventStatus.PUBLISHED);
+        return event;
+    }
+
+    private static List<EventSummary> summaries(Event... events) {
+        return Arrays.stream(events).map(EventSummary::of).toList();
+    }
+}
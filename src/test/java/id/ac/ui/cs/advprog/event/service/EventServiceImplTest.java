@@ -4,12 +4,24 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import id.ac.ui.cs.advprog.event.cache.EventCache;
+import id.ac.ui.cs.advprog.event.cache.EventIdFilter;
+import id.ac.ui.cs.advprog.event.dto.BatchCreateResponse;
 import id.ac.ui.cs.advprog.event.dto.CreateEventDTO;
+import id.ac.ui.cs.advprog.event.dto.CursorPage;
+import id.ac.ui.cs.advprog.event.dto.EventSummary;
+import id.ac.ui.cs.advprog.event.dto.EventCursor;
+import id.ac.ui.cs.advprog.event.dto.EventLookupResponse;
 import id.ac.ui.cs.advprog.event.dto.ResponseDTO;
 import id.ac.ui.cs.advprog.event.exception.EventNotFoundException;
+import id.ac.ui.cs.advprog.event.exception.PreconditionFailedException;
 import id.ac.ui.cs.advprog.event.model.EventBuilder;
+import id.ac.ui.cs.advprog.event.model.EventChangedEvent;
 import jakarta.transaction.Transactional;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,9 +30,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -31,11 +45,17 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import id.ac.ui.cs.advprog.event.dto.UpdateEventDTO;
+import id.ac.ui.cs.advprog.event.enums.EventField;
 import id.ac.ui.cs.advprog.event.enums.EventStatus;
 import id.ac.ui.cs.advprog.event.model.Event;
 import id.ac.ui.cs.advprog.event.repository.EventRepository;
 import static org.mockito.Mockito.*;
 import org.mockito.InjectMocks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -47,6 +67,19 @@ public class EventServiceImplTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private EventCache eventCache = new EventCache(100, 300, new SimpleMeterRegistry());
+
+    // Never rebuilt here, so every id might exist unless a test builds it.
+    @Spy
+    private EventIdFilter eventIdFilter = new EventIdFilter(mock(EventRepository.class), 1000, 0.01);
+
     @InjectMocks
     private EventServiceImpl eventService;
     @Mock
@@ -465,16 +498,84 @@ public class EventServiceImplTest {
     void testGetEventByDate() {
         LocalDate date = LocalDate.now();
         LocalDateTime startOfDay = date.atStartOfDay();
-        List<Event> expectedEvents = Arrays.asList(testEvent);
+        LocalDateTime nextDay = date.plusDays(1).atStartOfDay();
+        List<EventSummary> expectedEvents = Arrays.asList(EventSummary.of(testEvent));
 
-        when(eventRepository.findByEventDate(startOfDay)).thenReturn(expectedEvents);
+        when(eventRepository.findPageInRange(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED),
+                startOfDay, nextDay, Pageable.unpaged())).thenReturn(expectedEvents);
 
-        List<Event> result = eventService.getEventByDate(date);
+        List<EventSummary> result = eventService.getEventByDate(date);
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals(testEvent, result.get(0));
-        verify(eventRepository, times(1)).findByEventDate(startOfDay);
+        assertEquals(testEvent.getId(), result.get(0).getId());
+        verify(eventRepository, never()).findByEventDate(any());
+    }
+
+    @Test
+    void testListEventsInRange_narrowsStatusFilterToPublicStatuses() {
+        LocalDateTime from = eventDate.minusDays(1);
+        LocalDateTime to = eventDate.plusDays(1);
+        when(eventRepository.findPageInRange(List.of(EventStatus.PUBLISHED), from, to, PageRequest.of(0, 51)))
+                .thenReturn(List.of(EventSummary.of(testEvent)));
+
+        CursorPage<EventSummary> page = eventService.listEventsInRange(from, to,
+                List.of(EventStatus.DRAFT, EventStatus.PUBLISHED), null, null);
+
+        assertEquals(List.of(EventSummary.of(testEvent)), page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testListEventsInRange_onlyPrivateStatusesSkipsQuery() {
+        CursorPage<EventSummary> page = eventService.listEventsInRange(eventDate, eventDate.plusDays(1),
+                List.of(EventStatus.DRAFT), null, null);
+
+        assertTrue(page.getItems().isEmpty());
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testGetCalendar_rejectsRangesOverOneYear() {
+        LocalDate from = LocalDate.of(2030, 1, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> eventService.getCalendar(from, from.plusDays(400), null));
+        assertThrows(IllegalArgumentException.class, () -> eventService.getCalendar(from, from, null));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testPublishEvents_appliesABatchWithOneLockAndOneUpdate() {
+        Event eligible = createTestEvent("Eligible", userId);
+        eligible.setStatus(EventStatus.DRAFT);
+        eligible.setEventDate(LocalDateTime.now().plusMonths(6));
+        eligible.setVersion(1);
+        Event stale = createTestEvent("Stale", userId);
+        stale.setStatus(EventStatus.DRAFT);
+        stale.setEventDate(LocalDateTime.now().plusMonths(6));
+        stale.setVersion(5);
+        Event tooSoon = createTestEvent("Too soon", userId);
+        tooSoon.setStatus(EventStatus.DRAFT);
+        UUID missing = UUID.randomUUID();
+        Map<UUID, Long> expected = new LinkedHashMap<>();
+        expected.put(eligible.getId(), 1L);
+        expected.put(stale.getId(), 4L);
+        expected.put(tooSoon.getId(), null);
+        expected.put(missing, null);
+        when(eventRepository.lockByIds(expected.keySet())).thenReturn(List.of(eligible, stale, tooSoon));
+
+        Map<UUID, ResponseDTO<EventStatus>> results = eventService.publishEvents(expected);
+
+        assertTrue(results.get(eligible.getId()).isSuccess());
+        assertEquals(EventStatus.PUBLISHED, results.get(eligible.getId()).getData());
+        assertEquals("Event has been modified", results.get(stale.getId()).getMessage());
+        assertEquals("Event must be scheduled at least 3 months from now to be published",
+                results.get(tooSoon.getId()).getMessage());
+        assertEquals("Event not found", results.get(missing).getMessage());
+        verify(eventRepository).transitionStatus(eq(List.of(eligible.getId())), any(), eq(EventStatus.PUBLISHED), any());
+        verify(eventRepository, never()).findById(any());
+        verify(eventRepository, never()).save(any());
+        verify(eventPublisher, times(1)).publishEvent(any(EventChangedEvent.class));
     }
 
     @Test
@@ -605,6 +706,170 @@ public class EventServiceImplTest {
         Mockito.verify(eventRepository, Mockito.times(1)).findById(eventId);
     }
 
+    @Test
+    void testGetEvent_RepeatedReadsAreServedFromCache() {
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
+
+        eventService.getEvent(eventId);
+        Event result = eventService.getEvent(eventId);
+
+        assertEquals(testEvent, result);
+        verify(eventRepository, times(1)).findById(eventId);
+        assertEquals(1, eventCache.stats().hitCount());
+    }
+
+    @Test
+    void testGetEvent_NotFoundIsNotCached() {
+        when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+
+        assertThrows(EventNotFoundException.class, () -> eventService.getEvent(eventId));
+        assertThrows(EventNotFoundException.class, () -> eventService.getEvent(eventId));
+
+        verify(eventRepository, times(2)).findById(eventId);
+    }
+
+    @Test
+    void testUpdateEvent_EvictsCachedEvent() {
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
+        eventService.getEvent(eventId);
+
+        eventService.updateEvent(eventId, UpdateEventDTO.builder().title("Renamed").build());
+
+        assertNotNull(eventCache.getIfPresent(eventId));
+        deliverPublishedChange();
+        assertNull(eventCache.getIfPresent(eventId));
+    }
+
+    @Test
+    void testCancelEvent_EvictsCachedEvent() {
+        testEvent.setStatus(EventStatus.PUBLISHED);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
+        eventService.getEvent(eventId);
+
+        eventService.cancelEvent(eventId);
+
+        deliverPublishedChange();
+        assertNull(eventCache.getIfPresent(eventId));
+    }
+
+    // The cache evicts from an after-commit listener; this plays the part of the commit.
+    private void deliverPublishedChange() {
+        ArgumentCaptor<EventChangedEvent> changeCaptor = ArgumentCaptor.forClass(EventChangedEvent.class);
+        verify(eventPublisher).publishEvent(changeCaptor.capture());
+        eventCache.onEventChanged(changeCaptor.getValue());
+    }
+
+    @Test
+    void testCancelEvent_PublishesChangeWithPreviousAndCurrentStatus() {
+        testEvent.setStatus(EventStatus.PUBLISHED);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
+        ArgumentCaptor<EventChangedEvent> changeCaptor = ArgumentCaptor.forClass(EventChangedEvent.class);
+
+        eventService.cancelEvent(eventId);
+
+        verify(eventPublisher).publishEvent(changeCaptor.capture());
+        EventChangedEvent change = changeCaptor.getValue();
+        assertEquals(EventStatus.PUBLISHED, change.previous().status());
+        assertEquals(EventStatus.CANCELLED, change.current().status());
+        assertTrue(change.touchesPublic());
+    }
+
+    @Test
+    void testDeleteEvent_PublishesRemoval() {
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
+        ArgumentCaptor<EventChangedEvent> changeCaptor = ArgumentCaptor.forClass(EventChangedEvent.class);
+
+        eventService.deleteEvent(eventId);
+
+        verify(eventPublisher).publishEvent(changeCaptor.capture());
+        assertNull(changeCaptor.getValue().current());
+        assertEquals(eventId, changeCaptor.getValue().id());
+        assertFalse(changeCaptor.getValue().touchesPublic());
+    }
+
+    @Test
+    void testUpdateEvent_StaleVersionIsRejectedBeforeSave() {
+        testEvent.setVersion(5);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> eventService.updateEvent(eventId, UpdateEventDTO.builder().title("Renamed").build(), 4L));
+
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    void testCompleteEvent_MatchingVersionIsApplied() {
+        testEvent.setVersion(5);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
+
+        ResponseDTO<EventStatus> result = eventService.completeEvent(eventId, 5L);
+
+        assertEquals(EventStatus.COMPLETED, result.getData());
+        verify(eventRepository).save(testEvent);
+    }
+
+    @Test
+    void testGetEventVersion_UsesCachedEntityBeforeQuerying() {
+        testEvent.setVersion(7);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
+        eventService.getEvent(eventId);
+
+        assertEquals(7L, eventService.getEventVersion(eventId));
+        verify(eventRepository, never()).findVersionById(eventId);
+    }
+
+    @Test
+    void testGetEventVersion_FallsBackToVersionQuery() {
+        when(eventRepository.findVersionById(eventId)).thenReturn(Optional.of(2L));
+
+        assertEquals(2L, eventService.getEventVersion(eventId));
+        verify(eventRepository, never()).findById(eventId);
+    }
+
+    @Test
+    void testCreateEvents_InsertsValidItemsAndReportsInvalidOnes() {
+        CreateEventDTO missingLocation = new CreateEventDTO();
+        missingLocation.setTitle("No Venue");
+        missingLocation.setEventDate(eventDate);
+        when(eventRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            events.forEach(event -> event.setId(UUID.randomUUID()));
+            return events;
+        });
+
+        BatchCreateResponse response = eventService.createEvents(
+                Arrays.asList(validEventDTO, missingLocation, null), userId);
+
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getFailed());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertNotNull(response.getResults().get(0).getId());
+        assertEquals(List.of("Event location cannot be null or empty"), response.getResults().get(1).getErrors());
+        assertEquals(2, response.getResults().get(2).getIndex());
+        assertFalse(response.getResults().get(2).isSuccess());
+
+        UUID organizer = userId;
+        verify(eventRepository).insertAll(argThat(events -> events.size() == 1
+                && organizer.equals(events.get(0).getUserId())));
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    void testCreateEvents_AllInvalidSkipsInsert() {
+        BatchCreateResponse response = eventService.createEvents(Arrays.asList(new CreateEventDTO()), userId);
+
+        assertEquals(0, response.getCreated());
+        assertEquals(3, response.getResults().get(0).getErrors().size());
+        verify(eventRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void testCreateEvents_RejectsEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () -> eventService.createEvents(List.of(), userId));
+        verifyNoInteractions(eventRepository);
+    }
+
     @Test
     void testChangeStatus_EventNotFound() {
         UUID eventId = UUID.randomUUID();
@@ -678,6 +943,174 @@ public class EventServiceImplTest {
         verify(eventRepository, times(1)).findByUserId(nullOrganizerId);
     }
 
+    @Test
+    void testListEventsPage_shouldReturnNextCursor_whenMoreRowsExist() {
+        EventSummary first = EventSummary.of(createTestEvent("First", userId));
+        EventSummary second = EventSummary.of(createTestEvent("Second", userId));
+        EventSummary third = EventSummary.of(createTestEvent("Third", userId));
+
+        when(eventRepository.findPageByStatusIn(List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED), PageRequest.of(0, 3)))
+                .thenReturn(List.of(first, second, third));
+
+        CursorPage<EventSummary> page = eventService.listEvents(null, null, 2);
+
+        assertThat(page.getItems()).containsExactly(first, second);
+        EventCursor next = EventCursor.decode(page.getNextCursor());
+        assertEquals(second.getEventDate(), next.eventDate());
+        assertEquals(second.getId(), next.id());
+    }
+
+    @Test
+    void testListEventsPage_shouldSeekAfterCursor_forAuthenticatedUser() {
+        UUID viewerId = UUID.randomUUID();
+        EventSummary last = EventSummary.of(createTestEvent("Last", viewerId));
+        EventCursor after = new EventCursor(eventDate, UUID.randomUUID());
+
+        when(eventRepository.findOwnOrPublishedPageAfter(viewerId, List.of(EventStatus.PUBLISHED, EventStatus.COMPLETED),
+                after.eventDate(), after.id(), PageRequest.of(0, 51)))
+                .thenReturn(List.of(last));
+
+        CursorPage<EventSummary> page = eventService.listEvents(viewerId, after, null);
+
+        assertThat(page.getItems()).containsExactly(last);
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testListEventsByOrganizerPage_shouldCapPageSize() {
+        UUID organizerId = UUID.randomUUID();
+
+        when(eventRepository.findPageByUserId(organizerId, PageRequest.of(0, 201))).thenReturn(new ArrayList<>());
+
+        CursorPage<EventSummary> page = eventService.listEventsByOrganizer(organizerId, null, 10_000);
+
+        assertThat(page.getItems()).isEmpty();
+        verify(eventRepository).findPageByUserId(organizerId, PageRequest.of(0, 201));
+    }
+
+    @Test
+    void testListEventsPage_shouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> eventService.listEvents(null, null, 0));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testListEventsWithFields_fetchesOneExtraRowForCursor() {
+        UUID organizerId = UUID.randomUUID();
+        Set<EventField> fields = EnumSet.of(EventField.TITLE);
+        Event first = createTestEvent("First", organizerId);
+        Event second = createTestEvent("Second", organizerId);
+        Event third = createTestEvent("Third", organizerId);
+        when(eventRepository.findPartial(any(), eq(fields), any(), eq(3)))
+                .thenReturn(new ArrayList<>(List.of(first, second, third)));
+
+        CursorPage<Event> page = eventService.listEventsByOrganizer(organizerId, fields, null, 2);
+
+        assertThat(page.getItems()).containsExactly(first, second);
+        assertEquals(new EventCursor(second.getEventDate(), second.getId()).encode(), page.getNextCursor());
+    }
+
+    @Test
+    void testGetEventWithFields_throwsWhenMissing() {
+        UUID id = UUID.randomUUID();
+        when(eventRepository.findPartial(any(), any(), any(), eq(1))).thenReturn(List.of());
+
+        assertThrows(EventNotFoundException.class, () -> eventService.getEvent(id, EnumSet.of(EventField.TITLE)));
+        verify(eventRepository, never()).findById(id);
+    }
+
+    @Test
+    void testGetEvents_servesCachedIdsAndLoadsTheRestInOneQuery() {
+        Event cached = createTestEvent("Cached", userId);
+        Event stored = createTestEvent("Stored", userId);
+        UUID unknown = UUID.randomUUID();
+        eventCache.get(cached.getId(), id -> cached);
+        when(eventRepository.findAllById(any())).thenReturn(List.of(stored));
+
+        EventLookupResponse response = eventService.getEvents(
+                List.of(stored.getId(), unknown, cached.getId(), stored.getId()));
+
+        assertThat(response.getEvents()).containsExactly(stored, cached);
+        assertThat(response.getMissing()).containsExactly(unknown);
+        ArgumentCaptor<Iterable<UUID>> loaded = ArgumentCaptor.forClass(Iterable.class);
+        verify(eventRepository, times(1)).findAllById(loaded.capture());
+        assertThat(loaded.getValue()).containsExactlyInAnyOrder(stored.getId(), unknown);
+        verify(eventRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetEvents_rejectsOversizedAndNullIds() {
+        List<UUID> tooMany = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            tooMany.add(UUID.randomUUID());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEvents(tooMany));
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEvents(Arrays.asList(eventId, null)));
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEvents(List.of()));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testGetEvent_idRuledOutByFilterIsNotFoundWithoutQuerying() {
+        filterKnows(eventId);
+        UUID unknown = UUID.randomUUID();
+
+        EventNotFoundException missing = assertThrows(EventNotFoundException.class, () -> eventService.getEvent(unknown));
+
+        assertEquals(0, missing.getStackTrace().length);
+        verify(eventCache, never()).get(any(), any());
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testGetEventVersionAndSparseGet_idRuledOutByFilterIsNotFoundWithoutQuerying() {
+        filterKnows(eventId);
+        UUID unknown = UUID.randomUUID();
+
+        assertThrows(EventNotFoundException.class, () -> eventService.getEventVersion(unknown));
+        assertThrows(EventNotFoundException.class,
+                () -> eventService.getEvent(unknown, EnumSet.of(EventField.TITLE)));
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void testGetEvents_loadsIdsTheFilterHasNotSeen() {
+        filterKnows(eventId);
+        Event remote = createTestEvent("Created elsewhere", userId);
+        when(eventRepository.findAllById(any())).thenReturn(List.of(remote));
+
+        EventLookupResponse response = eventService.getEvents(List.of(remote.getId()));
+
+        assertThat(response.getEvents()).containsExactly(remote);
+        assertThat(response.getMissing()).isEmpty();
+        assertTrue(eventIdFilter.mightContain(remote.getId()));
+    }
+
+    private void filterKnows(UUID... ids) {
+        EventRepository source = mock(EventRepository.class);
+        doAnswer(invocation -> {
+            Consumer<UUID> action = invocation.getArgument(0);
+            for (UUID id : ids) {
+                action.accept(id);
+            }
+            return null;
+        }).when(source).forEachId(any());
+        eventIdFilter = new EventIdFilter(source, 1000, 0.01);
+        eventIdFilter.rebuild();
+        ReflectionTestUtils.setField(eventService, "eventIdFilter", eventIdFilter);
+    }
+
+    @Test
+    void testEventCursor_roundTrip() {
+        EventCursor cursor = new EventCursor(eventDate, eventId);
+
+        assertEquals(cursor, EventCursor.decode(cursor.encode()));
+        assertNull(EventCursor.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> EventCursor.decode("garbage"));
+    }
+
     private Event createTestEvent(String title, UUID userId) {
         Event event = new Event();
         event.setId(UUID.randomUUID());
@@ -0,0 +1,143 @@
+package id.ac.ui.cs.advprog.event.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import id.ac.ui.cs.advprog.event.dto.PublishJob;
+import id.ac.ui.cs.advprog.event.dto.ResponseDTO;
+import id.ac.ui.cs.advprog.event.enums.EventStatus;
+import id.ac.ui.cs.advprog.event.enums.PublishJobStatus;
+import id.ac.ui.cs.advprog.event.exception.EventNotFoundException;
+import id.ac.ui.cs.advprog.event.exception.QueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PublishJobQueueTest {
+
+    private EventService eventService;
+    private PublishJobQueue publishJobQueue;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        eventService = mock(EventService.class);
+        publishJobQueue = new PublishJobQueue(eventService, Runnable::run, 2, 10, 1, 3600, 1000, 7, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publishJobQueue.stop();
+    }
+
+    @Test
+    void submit_rejectsWithRetryAfterWhenQueueIsFull() {
+        publishJobQueue.submit(UUID.randomUUID(), null, "organizer");
+        publishJobQueue.submit(UUID.randomUUID(), null, "organizer");
+
+        QueueFullException thrown = assertThrows(QueueFullException.class,
+                () -> publishJobQueue.submit(UUID.randomUUID(), null, "organizer"));
+
+        assertEquals(7, thrown.getRetryAfterSeconds());
+        assertEquals(2, publishJobQueue.pending());
+        assertEquals(2.0, registry.get("publish.queue.depth").gauge().value());
+        assertEquals(1.0, registry.get("publish.queue.rejected").counter().count());
+    }
+
+    @Test
+    void dispatcher_publishesABatchWithOneServiceCall() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Map<UUID, Long> expected = new LinkedHashMap<>();
+        expected.put(first, 2L);
+        expected.put(second, null);
+        ResponseDTO<EventStatus> published = new ResponseDTO<>(true, "Event status changed to PUBLISHED", EventStatus.PUBLISHED);
+        when(eventService.publishEvents(expected)).thenReturn(Map.of(first, published, second, published));
+
+        PublishJob firstJob = publishJobQueue.submit(first, 2L, "organizer");
+        PublishJob secondJob = publishJobQueue.submit(second, null, "organizer");
+        assertEquals(PublishJobStatus.QUEUED, publishJobQueue.find(firstJob.getId(), "organizer").orElseThrow().getStatus());
+        publishJobQueue.start();
+
+        PublishJob done = awaitCompletion(firstJob);
+        assertEquals(PublishJobStatus.SUCCEEDED, done.getStatus());
+        assertEquals(EventStatus.PUBLISHED, done.getEventStatus());
+        assertEquals(PublishJobStatus.SUCCEEDED, awaitCompletion(secondJob).getStatus());
+        verify(eventService).publishEvents(expected);
+        verify(eventService, never()).publishEvent(any(), any());
+    }
+
+    @Test
+    void dispatcher_recordsRejectedAndMissingEvents() {
+        UUID tooSoon = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(eventService.publishEvents(any())).thenReturn(Map.of(
+                tooSoon, new ResponseDTO<>(false, "Cannot publish event with a past date", null),
+                missing, new ResponseDTO<>(false, "Event not found", null)));
+
+        PublishJob first = publishJobQueue.submit(tooSoon, null, "organizer");
+        PublishJob second = publishJobQueue.submit(missing, null, "organizer");
+        publishJobQueue.start();
+
+        PublishJob rejected = awaitCompletion(first);
+        assertEquals(PublishJobStatus.FAILED, rejected.getStatus());
+        assertEquals("Cannot publish event with a past date", rejected.getMessage());
+        PublishJob notFound = awaitCompletion(second);
+        assertEquals(PublishJobStatus.FAILED, notFound.getStatus());
+        assertEquals("Event not found", notFound.getMessage());
+        assertEquals(0, publishJobQueue.pending());
+    }
+
+    @Test
+    void dispatcher_retriesJobByJobWhenTheBatchFails() {
+        UUID eventId = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(eventService.publishEvents(any())).thenThrow(new IllegalStateException("lock timeout"));
+        when(eventService.publishEvent(eventId, null)).thenReturn(CompletableFuture.completedFuture(
+                new ResponseDTO<>(true, "Event status changed to PUBLISHED", EventStatus.PUBLISHED)));
+        when(eventService.publishEvent(missing, null)).thenThrow(new EventNotFoundException("Event not found"));
+
+        PublishJob first = publishJobQueue.submit(eventId, null, "organizer");
+        PublishJob second = publishJobQueue.submit(missing, null, "organizer");
+        publishJobQueue.start();
+
+        assertEquals(PublishJobStatus.SUCCEEDED, awaitCompletion(first).getStatus());
+        assertEquals("Event not found", awaitCompletion(second).getMessage());
+    }
+
+    @Test
+    void find_hidesJobsFromOtherUsers() {
+        PublishJob job = publishJobQueue.submit(UUID.randomUUID(), null, "organizer");
+
+        assertTrue(publishJobQueue.find(job.getId(), "organizer").isPresent());
+        assertFalse(publishJobQueue.find(job.getId(), "someone-else").isPresent());
+    }
+
+    private PublishJob awaitCompletion(PublishJob job) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            PublishJob current = publishJobQueue.find(job.getId(), "organizer").orElseThrow();
+            if (current.getCompletedAt() != null) {
+                return current;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Publish job " + job.getId() + " did not complete");
+    }
+}